@@ -3,6 +3,7 @@ package com.seleniumjava.base;
 import com.seleniumjava.utils.ConfigManager;
 import com.seleniumjava.utils.LoggerUtil;
 import com.seleniumjava.utils.RestApiClient;
+import com.seleniumjava.utils.SleepAuditor;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.AfterClass;
 import java.text.SimpleDateFormat;
@@ -10,12 +11,17 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Base class for API tests
  * Provides common setup and utility methods for REST API testing
  */
 public class BaseApiTest {
+    private static final long POLL_START_MILLIS = 100;
+    private static final long POLL_MAX_MILLIS = 1000;
     
     protected RestApiClient apiClient;
     protected String baseUrl;
@@ -147,14 +153,40 @@ public class BaseApiTest {
     
     /**
      * Wait for specified milliseconds
+     * The sleep is recorded by SleepAuditor and counts against the sleep budgets.
      * @param milliseconds Time to wait
+     * @deprecated poll for the expected state with waitUntil instead
      */
+    @Deprecated
     protected void waitFor(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            LoggerUtil.error("Wait interrupted: " + e.getMessage());
+        SleepAuditor.sleep(milliseconds);
+    }
+    
+    /**
+     * Repeat an action until its result is accepted or the timeout passes
+     * Use instead of a fixed wait before verifying eventually consistent data.
+     * @param action Action to repeat, e.g. a GET request
+     * @param done Check of the action's result
+     * @param timeoutSeconds Timeout in seconds
+     * @return First accepted result, or the last result at the timeout (assert on it)
+     */
+    protected <T> T waitUntil(Supplier<T> action, Predicate<T> done, int timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long pollMillis = POLL_START_MILLIS;
+        T result = action.get();
+        while (!done.test(result) && System.nanoTime() < deadline) {
+            long remainingMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            try {
+                Thread.sleep(Math.min(pollMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LoggerUtil.error("Wait interrupted: " + e.getMessage());
+                return result;
+            }
+            pollMillis = Math.min(pollMillis * 2, POLL_MAX_MILLIS);
+            result = action.get();
         }
+        return result;
     }
     
     /**
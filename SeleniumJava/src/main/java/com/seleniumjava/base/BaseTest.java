@@ -1,23 +1,33 @@
 package com.seleniumjava.base;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.seleniumjava.driver.BrowserContextManager;
+import com.seleniumjava.driver.DriverFactory;
+import com.seleniumjava.driver.DriverPool;
+import com.seleniumjava.driver.DriverRegistry;
+import com.seleniumjava.driver.NetworkBlocker;
+import com.seleniumjava.driver.PageLoadTimer;
+import com.seleniumjava.driver.SessionPrefetcher;
+import com.seleniumjava.driver.SessionRecycler;
+import com.seleniumjava.driver.SessionWatchdog;
+import com.seleniumjava.utils.ConfigManager;
+import com.seleniumjava.utils.ElementCache;
+import com.seleniumjava.utils.WaitUtils;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.time.Duration;
 
 /**
  * BaseTest class containing common WebDriver initialization and teardown logic
  * This is the foundation for all test classes
+ *
+ * Sessions are bound to the test thread through DriverRegistry. The 'driver' field mirrors the
+ * session of the thread that last called setup(); tests that run with parallel="methods"
+ * must use getDriver() instead.
  */
 public class BaseTest {
     protected WebDriver driver;
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
-    private static final int WAIT_TIME = 10;
 
     /**
      * Initialize WebDriver before each test
@@ -39,62 +49,60 @@ public class BaseTest {
 
     /**
      * Initialize the browser based on browser type
+     * Opens an isolated context in a shared Chrome process when driver.contexts.enabled=true,
+     * borrows a warm session from the DriverPool when driver.pool.enabled=true,
+     * reuses the thread's previous session when driver.recycle.enabled=true,
+     * takes a session started in the background when driver.prefetch.enabled=true
      * @param browser - Browser name
      */
     private void initializeBrowser(String browser) {
-        if (browser.equals("chrome")) {
-            initializeChrome();
-        } else if (browser.equals("firefox")) {
-            initializeFirefox();
+        WebDriver session;
+        if (ConfigManager.isDriverContextsEnabled() && DriverFactory.normalizeBrowser(browser).equals("chrome")) {
+            session = BrowserContextManager.acquire();
+            DriverRegistry.register(session, BrowserContextManager::release);
+        } else if (ConfigManager.isDriverPoolEnabled()) {
+            DriverPool driverPool = DriverPool.forBrowser(browser);
+            session = driverPool.borrow();
+            DriverRegistry.register(session, pooled -> {
+                driverPool.release(pooled);
+                logger.info("WebDriver returned to pool: " + driverPool.getStats());
+            });
+        } else if (ConfigManager.isDriverRecycleEnabled()) {
+            session = SessionRecycler.acquire(browser);
+            DriverRegistry.register(session, SessionRecycler::recycle);
+        } else if (ConfigManager.isDriverPrefetchEnabled()) {
+            session = SessionPrefetcher.take(browser);
+            DriverRegistry.register(session, prefetched -> {
+                prefetched.quit();
+                logger.info("WebDriver closed successfully");
+            });
         } else {
-            logger.warn("Invalid browser: " + browser + ". Defaulting to Chrome");
-            initializeChrome();
+            session = DriverFactory.createDriver(browser);
+            DriverRegistry.register(session, created -> {
+                created.quit();
+                logger.info("WebDriver closed successfully");
+            });
         }
-        configureDriver();
-    }
-
-    /**
-     * Initialize Chrome browser with WebDriverManager
-     */
-    private void initializeChrome() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        // Uncomment below for headless mode
-        // options.addArguments("--headless");
-        driver = new ChromeDriver(options);
-        logger.info("Chrome browser initialized");
-    }
-
-    /**
-     * Initialize Firefox browser with WebDriverManager
-     */
-    private void initializeFirefox() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920", "--height=1080");
-        // Uncomment below for headless mode
-        // options.addArguments("--headless");
-        driver = new FirefoxDriver(options);
-        logger.info("Firefox browser initialized");
-    }
-
-    /**
-     * Configure common WebDriver settings
-     */
-    private void configureDriver() {
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(WAIT_TIME));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(WAIT_TIME));
-        logger.info("WebDriver configured with wait times: " + WAIT_TIME + " seconds");
+        driver = session;
     }
 
     /**
      * Navigate to a specific URL
+     * With the "none" page-load strategy this waits until the DOM is interactive; page objects
+     * can skip even that with BasePage.open() and a ready locator.
      * @param url - The URL to navigate to
      */
     public void navigateTo(String url) {
-        driver.navigate().to(url);
+        WebDriver current = getDriver();
+        PageLoadTimer.begin(current);
+        NetworkBlocker.beginPage(current);
+        current.navigate().to(url);
+        ElementCache.navigated(current);
+        if (PageLoadTimer.getStrategy(current) == PageLoadStrategy.NONE) {
+            WaitUtils.waitForDocumentReady(current, PageLoadStrategy.EAGER, ConfigManager.getPageLoadTimeout());
+        }
+        NetworkBlocker.endPage(current, url);
+        PageLoadTimer.ready(current, url);
         logger.info("Navigated to URL: " + url);
     }
 
@@ -102,17 +110,28 @@ public class BaseTest {
      * Close the WebDriver and release resources
      */
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        WebDriver current = getDriver();
+        if (current != null && !SessionWatchdog.isHung(current)) {
+            PageLoadTimer.flush(current);
+        }
+        WebDriver released = DriverRegistry.release();
+        if (released == null && driver != null && !DriverRegistry.isBound(driver)) {
+            // Session was assigned directly to the field instead of through setup()
+            released = driver;
+            released.quit();
             logger.info("WebDriver closed successfully");
         }
+        if (released != null && driver == released) {
+            driver = null;
+        }
     }
 
     /**
-     * Get current WebDriver instance
+     * Get the WebDriver instance of the current test thread
      * @return WebDriver instance
      */
     public WebDriver getDriver() {
-        return driver;
+        WebDriver session = DriverRegistry.getDriver();
+        return session != null ? session : driver;
     }
 }
@@ -0,0 +1,386 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import com.seleniumjava.utils.NetworkIdle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BrowserContextManager hands out isolated browser contexts inside shared Chrome processes
+ *
+ * A context has its own cookies, storage and cache (like an incognito profile) but shares the browser
+ * process, so it is far cheaper to create than a new browser. How it works:
+ * 1. A host ChromeDriver session keeps the browser process alive
+ * 2. Target.createBrowserContext + Target.createTarget (DevTools) open a tab in a new context
+ * 3. A lightweight ChromeDriver session attaches to the same browser (debuggerAddress)
+ *    and switches to that tab, so each test thread drives its own context independently
+ * 4. On release the context is disposed, closing its tabs and dropping its state
+ *
+ * The attached sessions see the tabs of every context in the browser. Window utilities (WindowHandlingUtils,
+ * CommonUtils) therefore list handles through getWindowHandles(), which keeps only the tabs of the session's
+ * own context; tests must not iterate driver.getWindowHandles() directly while contexts are enabled.
+ * A browser process that stops answering (crashed, killed by the SessionWatchdog) is retired and
+ * acquire() retries once in another process.
+ *
+ * Configuration (config.properties):
+ *   driver.contexts.enabled=true           - Use contexts for Chrome sessions in BaseTest
+ *   driver.contexts.max.per.browser=5      - Contexts per browser process before another one is started
+ */
+public class BrowserContextManager {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserContextManager.class);
+    private static final List<Host> hosts = new ArrayList<>();
+    private static final Map<WebDriver, Lease> leases = new ConcurrentHashMap<>();
+    private static final AtomicLong contextsCreated = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextManager::shutdown, "browser-context-shutdown"));
+    }
+
+    /**
+     * A shared browser process and the number of contexts currently open in it
+     * A host is listed (and counts reservations) while its browser is still starting; driver and
+     * debuggerAddress are only set once started has been counted down.
+     */
+    private static class Host {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private ChromeDriver driver;
+        private String debuggerAddress;
+        private RuntimeException startFailure;
+        private int activeContexts;
+
+        /**
+         * Wait until the thread that reserved the host first has started its browser
+         */
+        private void awaitStarted() {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for a shared Chrome process", e);
+            }
+            if (startFailure != null) {
+                throw new WebDriverException("Shared Chrome process failed to start", startFailure);
+            }
+        }
+    }
+
+    /**
+     * A context handed out to a test
+     */
+    private static class Lease {
+        private final Host host;
+        private final String contextId;
+
+        private Lease(Host host, String contextId) {
+            this.host = host;
+            this.contextId = contextId;
+        }
+    }
+
+    /**
+     * Open a new isolated context and return a session driving it
+     * @return WebDriver bound to a fresh browser context
+     */
+    public static WebDriver acquire() {
+        BrowserProfile profile = BrowserProfile.fromConfig();
+        for (int attempt = 1; ; attempt++) {
+            Host host = reserveHost(profile);
+            String contextId;
+            String targetId;
+            try {
+                synchronized (host) {
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("disposeOnDetach", false);
+                    contextId = (String) host.driver.executeCdpCommand("Target.createBrowserContext", params)
+                            .get("browserContextId");
+
+                    Map<String, Object> target = new HashMap<>();
+                    target.put("url", "about:blank");
+                    target.put("browserContextId", contextId);
+                    if (!profile.isMaximized()) {
+                        target.put("width", profile.getWindowWidth());
+                        target.put("height", profile.getWindowHeight());
+                    }
+                    targetId = (String) host.driver.executeCdpCommand("Target.createTarget", target).get("targetId");
+                }
+            } catch (WebDriverException e) {
+                // The shared browser is gone: never hand it out again
+                retireHost(host);
+                if (attempt > 1) {
+                    throw e;
+                }
+                logger.warn("Shared Chrome process " + host.debuggerAddress + " failed (" + e.getMessage()
+                        + "), retrying in another process");
+                continue;
+            }
+            return attach(host, contextId, targetId);
+        }
+    }
+
+    /**
+     * Attach a session to a freshly created context tab
+     */
+    private static WebDriver attach(Host host, String contextId, String targetId) {
+        try {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", host.debuggerAddress);
+            ChromeDriver attached = new ChromeDriver(options);
+            attached.switchTo().window(findWindowHandle(attached, targetId));
+            DriverFactory.configureTimeouts(attached);
+            NetworkBlocker.installIfEnabled(attached);
+            NetworkIdle.installIfEnabled(attached);
+            SessionWatchdog.watch(attached);
+
+            leases.put(attached, new Lease(host, contextId));
+            contextsCreated.incrementAndGet();
+            logger.info("Opened browser context " + contextId + " (" + host.activeContexts
+                    + " active in process " + host.debuggerAddress + ")");
+            return attached;
+        } catch (RuntimeException e) {
+            disposeContext(host, contextId);
+            releaseHost(host);
+            throw e;
+        }
+    }
+
+    /**
+     * Dispose a context and detach its session; the shared browser keeps running
+     * @param driver - WebDriver obtained from acquire()
+     */
+    public static void release(WebDriver driver) {
+        Lease lease = leases.remove(driver);
+        if (lease == null) {
+            logger.warn("Session was not acquired from BrowserContextManager, quitting it");
+            driver.quit();
+            return;
+        }
+        // Dispose first: this closes the context's tabs before the attached session detaches
+        disposeContext(lease.host, lease.contextId);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error detaching context session: " + e.getMessage());
+        }
+        releaseHost(lease.host);
+    }
+
+    /**
+     * Get the window handles of a session's own context
+     * Sessions that were not acquired here get all their window handles.
+     * @param driver - WebDriver instance
+     * @return Handles in the order the session reports them
+     */
+    public static Set<String> getWindowHandles(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        Lease lease = leases.get(driver);
+        if (lease == null) {
+            return handles;
+        }
+        Set<String> targets = new HashSet<>();
+        synchronized (lease.host) {
+            Map<String, Object> result = lease.host.driver.executeCdpCommand("Target.getTargets", new HashMap<>());
+            for (Object info : (List<?>) result.get("targetInfos")) {
+                Map<?, ?> target = (Map<?, ?>) info;
+                if (lease.contextId.equals(target.get("browserContextId"))) {
+                    targets.add(String.valueOf(target.get("targetId")));
+                }
+            }
+        }
+        Set<String> own = new LinkedHashSet<>();
+        for (String handle : handles) {
+            for (String targetId : targets) {
+                if (isTarget(handle, targetId)) {
+                    own.add(handle);
+                    break;
+                }
+            }
+        }
+        return own;
+    }
+
+    /**
+     * Get number of contexts created in this JVM
+     * @return Contexts created
+     */
+    public static long getContextsCreated() {
+        return contextsCreated.get();
+    }
+
+    /**
+     * Quit all shared browser processes
+     */
+    public static synchronized void shutdown() {
+        for (Host host : hosts) {
+            if (host.driver == null) {
+                // Still starting: startHost() quits the browser when it finds the host gone
+                continue;
+            }
+            try {
+                host.driver.quit();
+            } catch (Exception e) {
+                logger.warn("Error quitting context host: " + e.getMessage());
+            }
+        }
+        if (!hosts.isEmpty()) {
+            logger.info("BrowserContextManager contexts=" + contextsCreated.get() + ", browserProcesses=" + hosts.size());
+        }
+        hosts.clear();
+    }
+
+    // ======================== INTERNALS ========================
+
+    /**
+     * Pick the least loaded host with room for another context, starting a new one if all are full
+     * The new browser is started outside the class lock, so acquire/release in other hosts go on meanwhile;
+     * threads that pick a host that is still starting wait for it.
+     */
+    private static Host reserveHost(BrowserProfile profile) {
+        int maxPerBrowser = Math.max(1, ConfigManager.getDriverContextsMaxPerBrowser());
+        Host selected = null;
+        boolean start = false;
+        synchronized (BrowserContextManager.class) {
+            for (Host host : hosts) {
+                if (host.activeContexts < maxPerBrowser
+                        && (selected == null || host.activeContexts < selected.activeContexts)) {
+                    selected = host;
+                }
+            }
+            if (selected == null) {
+                selected = new Host();
+                hosts.add(selected);
+                start = true;
+            }
+            selected.activeContexts++;
+        }
+        if (start) {
+            startHost(selected, profile);
+        } else {
+            selected.awaitStarted();
+        }
+        return selected;
+    }
+
+    /**
+     * Start the browser of a reserved placeholder host and publish it to the waiting threads
+     */
+    private static void startHost(Host host, BrowserProfile profile) {
+        ChromeDriver hostDriver = null;
+        try {
+            hostDriver = (ChromeDriver) DriverFactory.createDriver("chrome", profile);
+            String debuggerAddress = readDebuggerAddress(hostDriver);
+            synchronized (BrowserContextManager.class) {
+                if (!hosts.contains(host)) {
+                    throw new IllegalStateException("BrowserContextManager was shut down while Chrome started");
+                }
+                host.driver = hostDriver;
+                host.debuggerAddress = debuggerAddress;
+            }
+            logger.info("Started shared Chrome process for contexts at " + debuggerAddress);
+        } catch (RuntimeException e) {
+            synchronized (BrowserContextManager.class) {
+                hosts.remove(host);
+            }
+            if (hostDriver != null) {
+                try {
+                    hostDriver.quit();
+                } catch (Exception quitError) {
+                    logger.warn("Error quitting context host: " + quitError.getMessage());
+                }
+            }
+            host.startFailure = e;
+            throw e;
+        } finally {
+            host.started.countDown();
+        }
+    }
+
+    private static synchronized void releaseHost(Host host) {
+        host.activeContexts--;
+    }
+
+    /**
+     * Stop handing out a browser process and quit it; contexts still leased in it are lost anyway
+     */
+    private static void retireHost(Host host) {
+        synchronized (BrowserContextManager.class) {
+            if (!hosts.remove(host)) {
+                return;
+            }
+        }
+        logger.warn("Retiring shared Chrome process " + host.debuggerAddress);
+        try {
+            host.driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting context host: " + e.getMessage());
+        }
+    }
+
+    private static boolean isAlive(Host host) {
+        try {
+            synchronized (host) {
+                host.driver.executeCdpCommand("Browser.getVersion", new HashMap<>());
+            }
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String readDebuggerAddress(ChromeDriver driver) {
+        Object chromeOptions = driver.getCapabilities().getCapability("goog:chromeOptions");
+        if (chromeOptions instanceof Map) {
+            Object address = ((Map<String, Object>) chromeOptions).get("debuggerAddress");
+            if (address != null) {
+                return address.toString();
+            }
+        }
+        throw new IllegalStateException("Chrome did not report a debuggerAddress; browser contexts are unavailable");
+    }
+
+    /**
+     * ChromeDriver uses the DevTools target id as window handle
+     */
+    private static String findWindowHandle(WebDriver driver, String targetId) {
+        for (String handle : driver.getWindowHandles()) {
+            if (isTarget(handle, targetId)) {
+                return handle;
+            }
+        }
+        throw new IllegalStateException("Window for browser context target " + targetId + " not found");
+    }
+
+    private static boolean isTarget(String handle, String targetId) {
+        return handle.equalsIgnoreCase(targetId) || handle.toUpperCase().endsWith(targetId.toUpperCase());
+    }
+
+    private static void disposeContext(Host host, String contextId) {
+        try {
+            synchronized (host) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("browserContextId", contextId);
+                host.driver.executeCdpCommand("Target.disposeBrowserContext", params);
+            }
+        } catch (Exception e) {
+            logger.warn("Error disposing browser context " + contextId + ": " + e.getMessage());
+            // A failed dispose on a healthy browser must not take the other tests' contexts down with it
+            if (!isAlive(host)) {
+                retireHost(host);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.PageLoadStrategy;
+
+/**
+ * BrowserProfile bundles the launch options of a browser session
+ *
+ * Built-in profiles (select with browser.profile in config.properties or environments/*.properties):
+ *   default       - Visible, maximized, everything enabled (previous behaviour)
+ *   fast-headless - Headless, no images/extensions/GPU, eager page load, 1366x768
+ *   no-images     - Visible, no images/extensions, maximized
+ *   debug         - Visible, maximized, DevTools opened for every tab
+ *
+ * Every setting can be overridden or a custom profile defined with:
+ *   browser.profile.<name>.headless=true|false
+ *   browser.profile.<name>.images=true|false
+ *   browser.profile.<name>.extensions=true|false
+ *   browser.profile.<name>.gpu=true|false
+ *   browser.profile.<name>.devtools=true|false
+ *   browser.profile.<name>.page.load.strategy=normal|eager|none
+ *   browser.profile.<name>.window.size=maximized|1920x1080
+ *
+ * headless=true in the configuration forces headless mode for any profile.
+ * page.load.strategy in the configuration replaces the built-in strategy of every profile.
+ */
+public class BrowserProfile {
+    private final String name;
+    private final boolean headless;
+    private final boolean images;
+    private final boolean extensions;
+    private final boolean gpu;
+    private final boolean devtools;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final String windowSize;
+
+    private BrowserProfile(String name, boolean headless, boolean images, boolean extensions, boolean gpu,
+                           boolean devtools, PageLoadStrategy pageLoadStrategy, String windowSize) {
+        this.name = name;
+        this.headless = headless;
+        this.images = images;
+        this.extensions = extensions;
+        this.gpu = gpu;
+        this.devtools = devtools;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Get the profile selected in the configuration
+     * @return Configured browser profile
+     */
+    public static BrowserProfile fromConfig() {
+        return forName(ConfigManager.getBrowserProfile());
+    }
+
+    /**
+     * Get a profile by name, applying configuration overrides
+     * @param profileName - Profile name
+     * @return Browser profile
+     */
+    public static BrowserProfile forName(String profileName) {
+        String name = profileName == null ? "default" : profileName.trim().toLowerCase();
+        BrowserProfile base = builtIn(name);
+        String prefix = "browser.profile." + name + ".";
+        String globalStrategy = ConfigManager.getPageLoadStrategy();
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(ConfigManager.getProperty(prefix + "page.load.strategy",
+                globalStrategy.isEmpty() ? base.pageLoadStrategy.toString() : globalStrategy.toLowerCase()));
+        return new BrowserProfile(name,
+                ConfigManager.isHeadless() || bool(prefix + "headless", base.headless),
+                bool(prefix + "images", base.images),
+                bool(prefix + "extensions", base.extensions),
+                bool(prefix + "gpu", base.gpu),
+                bool(prefix + "devtools", base.devtools),
+                strategy != null ? strategy : base.pageLoadStrategy,
+                ConfigManager.getProperty(prefix + "window.size", base.windowSize));
+    }
+
+    private static BrowserProfile builtIn(String name) {
+        switch (name) {
+            case "fast-headless":
+                return new BrowserProfile(name, true, false, false, false, false, PageLoadStrategy.EAGER, "1366x768");
+            case "no-images":
+                return new BrowserProfile(name, false, false, false, true, false, PageLoadStrategy.NORMAL, "maximized");
+            case "debug":
+                return new BrowserProfile(name, false, true, true, true, true, PageLoadStrategy.NORMAL, "maximized");
+            default:
+                return new BrowserProfile(name, false, true, true, true, false, PageLoadStrategy.NORMAL, "maximized");
+        }
+    }
+
+    private static boolean bool(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(ConfigManager.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isImagesEnabled() {
+        return images;
+    }
+
+    public boolean isExtensionsEnabled() {
+        return extensions;
+    }
+
+    public boolean isGpuEnabled() {
+        return gpu;
+    }
+
+    public boolean isDevtoolsOpen() {
+        return devtools;
+    }
+
+    public PageLoadStrategy getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    /**
+     * Check if the window should be maximized instead of using a fixed size
+     * @return true for "maximized"
+     */
+    public boolean isMaximized() {
+        return !windowSize.contains("x");
+    }
+
+    public int getWindowWidth() {
+        return isMaximized() ? 0 : Integer.parseInt(windowSize.substring(0, windowSize.indexOf('x')).trim());
+    }
+
+    public int getWindowHeight() {
+        return isMaximized() ? 0 : Integer.parseInt(windowSize.substring(windowSize.indexOf('x') + 1).trim());
+    }
+
+    @Override
+    public String toString() {
+        return name + "[headless=" + headless + ", images=" + images + ", extensions=" + extensions
+                + ", gpu=" + gpu + ", devtools=" + devtools + ", pageLoad=" + pageLoadStrategy
+                + ", window=" + windowSize + "]";
+    }
+}
@@ -0,0 +1,66 @@
+package com.seleniumjava.driver;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BrowserProfileMetrics collects startup time and memory per browser/profile combination
+ * so the cheapest profile for CI can be picked from the run summary.
+ */
+public class BrowserProfileMetrics {
+    private static final Map<String, Entry> entries = new TreeMap<>();
+
+    /**
+     * Aggregated metrics of one browser/profile combination
+     */
+    private static class Entry {
+        private int sessions;
+        private long totalStartupMillis;
+        private long maxStartupMillis;
+        private long totalRssKb;
+        private int rssSamples;
+        private long maxRssKb;
+    }
+
+    /**
+     * Record a session start
+     * @param browser - Browser type
+     * @param profile - Profile name
+     * @param startupMillis - Time to start and configure the session
+     * @param rssKb - Resident memory of driver and browser processes, -1 if unknown
+     */
+    public static synchronized void record(String browser, String profile, long startupMillis, long rssKb) {
+        Entry entry = entries.computeIfAbsent(browser + "/" + profile, key -> new Entry());
+        entry.sessions++;
+        entry.totalStartupMillis += startupMillis;
+        entry.maxStartupMillis = Math.max(entry.maxStartupMillis, startupMillis);
+        if (rssKb >= 0) {
+            entry.rssSamples++;
+            entry.totalRssKb += rssKb;
+            entry.maxRssKb = Math.max(entry.maxRssKb, rssKb);
+        }
+    }
+
+    /**
+     * Get a one-line-per-profile summary
+     * @return Summary text
+     */
+    public static synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            summary.append(item.getKey())
+                    .append(": sessions=").append(entry.sessions)
+                    .append(", avgStartup=").append(entry.totalStartupMillis / entry.sessions).append("ms")
+                    .append(", maxStartup=").append(entry.maxStartupMillis).append("ms");
+            if (entry.rssSamples > 0) {
+                summary.append(", avgRss=").append(entry.totalRssKb / entry.rssSamples / 1024).append("MB")
+                        .append(", maxRss=").append(entry.maxRssKb / 1024).append("MB");
+            } else {
+                summary.append(", rss=n/a");
+            }
+            summary.append('\n');
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,327 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaryResolver resolves chromedriver/geckodriver once per JVM
+ * The result is also written to a local manifest keyed by browser version, so later runs
+ * (including offline ones) start from the cached binary instead of calling WebDriverManager.
+ *
+ * Configuration (config.properties):
+ *   driver.cache.enabled=true                                   - Use the manifest
+ *   driver.cache.manifest=~/.seleniumjava/driver-manifest.properties
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final Map<String, DriverBinary> resolved = new ConcurrentHashMap<>();
+    private static final AtomicLong totalSavedMillis = new AtomicLong();
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\d+(\\.\\d+)+");
+    private static final Object MANIFEST_LOCK = new Object();
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    /**
+     * Where a resolved driver binary came from
+     */
+    public enum Source {
+        WEBDRIVERMANAGER, MANIFEST, MANIFEST_OFFLINE
+    }
+
+    /**
+     * A resolved driver binary
+     */
+    public static class DriverBinary {
+        private final String browser;
+        private final String browserVersion;
+        private final String driverPath;
+        private final String driverVersion;
+        private final long resolveMillis;
+        private final Source source;
+
+        DriverBinary(String browser, String browserVersion, String driverPath,
+                     String driverVersion, long resolveMillis, Source source) {
+            this.browser = browser;
+            this.browserVersion = browserVersion;
+            this.driverPath = driverPath;
+            this.driverVersion = driverVersion;
+            this.resolveMillis = resolveMillis;
+            this.source = source;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public String getBrowserVersion() {
+            return browserVersion;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        public String getDriverVersion() {
+            return driverVersion;
+        }
+
+        /**
+         * Get the time a full WebDriverManager resolution took for this binary
+         * @return Resolution time in milliseconds
+         */
+        public long getResolveMillis() {
+            return resolveMillis;
+        }
+
+        public Source getSource() {
+            return source;
+        }
+    }
+
+    /**
+     * Resolve the driver binary for a browser and register it as a system property
+     * Only the first call per JVM does any work; later calls return the memoized result.
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @return Resolved driver binary
+     */
+    public static DriverBinary resolve(String browser) {
+        String name = DriverFactory.normalizeBrowser(browser);
+        DriverBinary cached = resolved.get(name);
+        if (cached != null) {
+            totalSavedMillis.addAndGet(cached.getResolveMillis());
+            logger.info(name + " driver already resolved in this JVM, saved ~" + cached.getResolveMillis()
+                    + " ms of startup (total saved: " + totalSavedMillis.get() + " ms)");
+            return cached;
+        }
+        return resolved.computeIfAbsent(name, DriverBinaryResolver::resolveUncached);
+    }
+
+    /**
+     * Get total startup time saved by not re-resolving driver binaries
+     * @return Saved time in milliseconds
+     */
+    public static long getTotalSavedMillis() {
+        return totalSavedMillis.get();
+    }
+
+    // ======================== RESOLUTION ========================
+
+    private static DriverBinary resolveUncached(String browser) {
+        long start = System.nanoTime();
+        String browserVersion = detectBrowserVersion(browser);
+        boolean cacheEnabled = ConfigManager.isDriverCacheEnabled();
+        // Without a version the entry cannot tell browser upgrades apart: always re-resolve
+        boolean versioned = !UNKNOWN_VERSION.equals(browserVersion);
+
+        if (cacheEnabled && versioned) {
+            DriverBinary fromManifest = readManifest(browser, browserVersion);
+            if (fromManifest != null) {
+                long lookupMillis = elapsedMillis(start);
+                long saved = Math.max(0, fromManifest.getResolveMillis() - lookupMillis);
+                totalSavedMillis.addAndGet(saved);
+                register(fromManifest);
+                logger.info(browser + " driver " + fromManifest.getDriverVersion() + " loaded from manifest in "
+                        + lookupMillis + " ms, saved ~" + saved + " ms of startup");
+                return fromManifest;
+            }
+        }
+
+        try {
+            WebDriverManager manager = browser.equals("firefox")
+                    ? WebDriverManager.firefoxdriver() : WebDriverManager.chromedriver();
+            manager.setup();
+            DriverBinary binary = new DriverBinary(browser, browserVersion, manager.getDownloadedDriverPath(),
+                    manager.getDownloadedDriverVersion(), elapsedMillis(start), Source.WEBDRIVERMANAGER);
+            logger.info(browser + " driver " + binary.getDriverVersion() + " resolved by WebDriverManager in "
+                    + binary.getResolveMillis() + " ms");
+            if (cacheEnabled && versioned) {
+                writeManifest(binary);
+            }
+            return binary;
+        } catch (RuntimeException e) {
+            // Typically offline: fall back to any binary this machine resolved before
+            DriverBinary fallback = cacheEnabled ? readManifest(browser, null) : null;
+            if (fallback == null) {
+                throw e;
+            }
+            logger.warn("WebDriverManager failed (" + e.getMessage() + "), using cached " + browser
+                    + " driver " + fallback.getDriverVersion() + " resolved for browser " + fallback.getBrowserVersion());
+            register(fallback);
+            return fallback;
+        }
+    }
+
+    private static void register(DriverBinary binary) {
+        String property = binary.getBrowser().equals("firefox") ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+        System.setProperty(property, binary.getDriverPath());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    // ======================== MANIFEST ========================
+
+    /**
+     * Read a manifest entry
+     * @param browser - Browser type
+     * @param browserVersion - Exact browser version, or null to accept the newest entry for the browser
+     * @return Entry whose driver binary still exists, or null
+     */
+    private static DriverBinary readManifest(String browser, String browserVersion) {
+        Properties manifest = loadManifest();
+        String key = browserVersion;
+        if (key == null) {
+            key = manifest.getProperty(browser + ".latest");
+        }
+        if (key == null) {
+            return null;
+        }
+        String prefix = browser + "." + key + ".";
+        String path = manifest.getProperty(prefix + "path");
+        if (path == null || !new File(path).isFile()) {
+            return null;
+        }
+        Source source = browserVersion == null ? Source.MANIFEST_OFFLINE : Source.MANIFEST;
+        return new DriverBinary(browser, key, path, manifest.getProperty(prefix + "driverVersion", "unknown"),
+                Long.parseLong(manifest.getProperty(prefix + "resolveMillis", "0")), source);
+    }
+
+    private static void writeManifest(DriverBinary binary) {
+        if (binary.getDriverPath() == null) {
+            return;
+        }
+        synchronized (MANIFEST_LOCK) {
+            Properties manifest = loadManifest();
+            String prefix = binary.getBrowser() + "." + binary.getBrowserVersion() + ".";
+            manifest.setProperty(prefix + "path", binary.getDriverPath());
+            manifest.setProperty(prefix + "driverVersion", String.valueOf(binary.getDriverVersion()));
+            manifest.setProperty(prefix + "resolveMillis", String.valueOf(binary.getResolveMillis()));
+            manifest.setProperty(prefix + "resolvedAt", String.valueOf(System.currentTimeMillis()));
+            manifest.setProperty(binary.getBrowser() + ".latest", binary.getBrowserVersion());
+
+            File file = getManifestFile();
+            try {
+                File parent = file.getAbsoluteFile().getParentFile();
+                if (parent != null && !parent.exists()) {
+                    parent.mkdirs();
+                }
+                // Write to a temp file and move it, so parallel JVMs never read a partial manifest
+                File temp = File.createTempFile("driver-manifest", ".tmp", parent);
+                try (OutputStream out = new FileOutputStream(temp)) {
+                    manifest.store(out, "Resolved WebDriver binaries keyed by browser version");
+                }
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                logger.info("Driver manifest updated: " + file.getPath());
+            } catch (IOException e) {
+                logger.warn("Could not write driver manifest " + file.getPath() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        File file = getManifestFile();
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read driver manifest " + file.getPath() + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    private static File getManifestFile() {
+        String path = ConfigManager.getDriverCacheManifest();
+        if (path.startsWith("~")) {
+            path = System.getProperty("user.home") + path.substring(1);
+        }
+        return new File(path);
+    }
+
+    // ======================== BROWSER VERSION DETECTION ========================
+
+    /**
+     * Detect the installed browser version without WebDriverManager
+     * @param browser - Browser type
+     * @return Browser version or "unknown"
+     */
+    static String detectBrowserVersion(String browser) {
+        for (List<String> command : versionCommands(browser)) {
+            String version = runForVersion(command);
+            if (version != null) {
+                return version;
+            }
+        }
+        logger.warn("Could not detect installed " + browser + " version");
+        return UNKNOWN_VERSION;
+    }
+
+    private static List<List<String>> versionCommands(String browser) {
+        String os = System.getProperty("os.name", "").toLowerCase();
+        boolean firefox = browser.equals("firefox");
+        if (os.contains("win")) {
+            return firefox
+                    ? Arrays.asList(Arrays.asList("reg", "query", "HKLM\\Software\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"))
+                    : Arrays.asList(Arrays.asList("reg", "query", "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"),
+                            Arrays.asList("reg", "query", "HKLM\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+        }
+        if (os.contains("mac")) {
+            return firefox
+                    ? Arrays.asList(Arrays.asList("/Applications/Firefox.app/Contents/MacOS/firefox", "--version"))
+                    : Arrays.asList(Arrays.asList("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version"));
+        }
+        return firefox
+                ? Arrays.asList(Arrays.asList("firefox", "--version"))
+                : Arrays.asList(Arrays.asList("google-chrome", "--version"),
+                        Arrays.asList("chromium", "--version"),
+                        Arrays.asList("chromium-browser", "--version"));
+    }
+
+    private static String runForVersion(List<String> command) {
+        File output = null;
+        try {
+            // Output goes to a file so a hanging process cannot block a read: the timeout always applies
+            output = File.createTempFile("browser-version", ".txt");
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(output).start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            Matcher matcher = VERSION_PATTERN.matcher(new String(Files.readAllBytes(output.toPath()),
+                    StandardCharsets.UTF_8));
+            return process.exitValue() == 0 && matcher.find() ? matcher.group() : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (output != null) {
+                output.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import com.seleniumjava.utils.NetworkIdle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DriverFactory creates and configures new browser sessions
+ * Shared by BaseTest and DriverPool so both start browsers the same way
+ */
+public class DriverFactory {
+    private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
+    // Package visible: SessionWatchdog keeps its deadline above it
+    static final int SCRIPT_TIMEOUT = 30;
+
+    /**
+     * Normalize a browser name to a supported browser type
+     * @param browser - Browser name (case insensitive)
+     * @return "chrome" or "firefox"
+     */
+    public static String normalizeBrowser(String browser) {
+        String name = browser == null ? "" : browser.trim().toLowerCase();
+        if (name.equals("chrome") || name.equals("firefox")) {
+            return name;
+        }
+        logger.warn("Invalid browser: " + browser + ". Defaulting to Chrome");
+        return "chrome";
+    }
+
+    /**
+     * Start and configure a new browser session with the configured launch profile
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @return Configured WebDriver instance
+     */
+    public static WebDriver createDriver(String browser) {
+        return createDriver(browser, BrowserProfile.fromConfig());
+    }
+
+    /**
+     * Start and configure a new browser session
+     * Startup time and resident memory are recorded per profile in BrowserProfileMetrics.
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @param profile - Launch profile
+     * @return Configured WebDriver instance
+     */
+    public static WebDriver createDriver(String browser, BrowserProfile profile) {
+        String name = normalizeBrowser(browser);
+        Set<Long> childrenBefore = ProcessMetrics.childProcessIds();
+        long start = System.nanoTime();
+
+        WebDriver driver;
+        if (name.equals("firefox")) {
+            driver = createFirefox(profile);
+        } else {
+            driver = createChrome(profile);
+        }
+        configureDriver(driver, profile);
+        NetworkBlocker.installIfEnabled(driver);
+        NetworkIdle.installIfEnabled(driver);
+        SessionWatchdog.watch(driver);
+
+        long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long rssKb = ProcessMetrics.residentSetKb(ProcessMetrics.newProcessTrees(childrenBefore));
+        BrowserProfileMetrics.record(name, profile.getName(), startupMillis, rssKb);
+        logger.info("Started " + name + " with profile " + profile.getName() + " in " + startupMillis + " ms"
+                + (rssKb >= 0 ? ", RSS " + rssKb / 1024 + " MB" : ""));
+        return driver;
+    }
+
+    /**
+     * Initialize Chrome browser with the cached chromedriver binary
+     */
+    private static WebDriver createChrome(BrowserProfile profile) {
+        DriverBinaryResolver.resolve("chrome");
+        ChromeOptions options = new ChromeOptions();
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        if (profile.isMaximized() && profile.isHeadless()) {
+            // Headless Chrome ignores --start-maximized and would run at 800x600
+            options.addArguments("--window-size=1920,1080");
+        } else if (profile.isMaximized()) {
+            options.addArguments("--start-maximized");
+        } else {
+            options.addArguments("--window-size=" + profile.getWindowWidth() + "," + profile.getWindowHeight());
+        }
+        if (!profile.isImagesEnabled()) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.setExperimentalOption("prefs",
+                    Collections.singletonMap("profile.managed_default_content_settings.images", 2));
+        }
+        if (!profile.isExtensionsEnabled()) {
+            options.addArguments("--disable-extensions");
+        }
+        if (!profile.isGpuEnabled()) {
+            options.addArguments("--disable-gpu");
+        }
+        if (profile.isDevtoolsOpen()) {
+            options.addArguments("--auto-open-devtools-for-tabs");
+        }
+        options.setPageLoadStrategy(profile.getPageLoadStrategy());
+        WebDriver driver = new ChromeDriver(options);
+        logger.info("Chrome browser initialized with profile " + profile);
+        return driver;
+    }
+
+    /**
+     * Initialize Firefox browser with the cached geckodriver binary
+     */
+    private static WebDriver createFirefox(BrowserProfile profile) {
+        DriverBinaryResolver.resolve("firefox");
+        FirefoxOptions options = new FirefoxOptions();
+        if (profile.isHeadless()) {
+            options.addArguments("-headless");
+        }
+        if (profile.isMaximized()) {
+            options.addArguments("--width=1920", "--height=1080");
+        } else {
+            options.addArguments("--width=" + profile.getWindowWidth(), "--height=" + profile.getWindowHeight());
+        }
+        if (!profile.isImagesEnabled()) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (!profile.isGpuEnabled()) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profile.isDevtoolsOpen()) {
+            options.addArguments("-devtools");
+        }
+        options.setPageLoadStrategy(profile.getPageLoadStrategy());
+        WebDriver driver = new FirefoxDriver(options);
+        logger.info("Firefox browser initialized with profile " + profile);
+        return driver;
+    }
+
+    /**
+     * Configure common WebDriver settings
+     * @param driver - WebDriver instance
+     * @param profile - Launch profile
+     */
+    private static void configureDriver(WebDriver driver, BrowserProfile profile) {
+        if (profile.isMaximized() && !profile.isHeadless()) {
+            driver.manage().window().maximize();
+        }
+        configureTimeouts(driver);
+    }
+
+    /**
+     * Apply the framework's implicit wait (implicit.wait), page load timeout (page.load.timeout) and script timeout
+     * In zero-implicit-wait mode (wait.implicit.zero) the implicit wait is 0 and ElementLookup does the waiting.
+     * @param driver - WebDriver instance
+     */
+    static void configureTimeouts(WebDriver driver) {
+        int pageLoadTimeout = ConfigManager.getPageLoadTimeout();
+        int implicitWait = ConfigManager.isZeroImplicitWait() ? 0 : ConfigManager.getImplicitWait();
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(SCRIPT_TIMEOUT));
+        logger.info("WebDriver configured with wait times: " + implicitWait + " seconds, page load timeout "
+                + pageLoadTimeout + " seconds (" + PageLoadTimer.getStrategy(driver) + " strategy)");
+    }
+}
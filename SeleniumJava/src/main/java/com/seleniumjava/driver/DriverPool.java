@@ -0,0 +1,310 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverPool keeps warm, pre-started browser sessions for one browser type
+ * BaseTest.setup() borrows a session and BaseTest.tearDown() returns it after a SessionResetter reset,
+ * so tests skip the browser cold-start whenever a warm session is available.
+ *
+ * Configuration (config.properties):
+ *   driver.pool.enabled=true          - Borrow sessions from the pool in BaseTest
+ *   driver.pool.min.idle=1            - Sessions kept started and idle in the background
+ *   driver.pool.max.total=3           - Upper limit of sessions (idle + borrowed)
+ *   driver.pool.borrow.timeout=60     - Seconds to wait for a session when the pool is exhausted
+ *   driver.pool.max.session.age=600   - Seconds after which a session is retired
+ *   driver.recycle.max.tests=20       - Tests served by one session before it is retired
+ *
+ * Usage:
+ *   WebDriver driver = DriverPool.forBrowser("chrome").borrow();
+ *   ...
+ *   DriverPool.forBrowser("chrome").release(driver);
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final long POLL_SLICE_MILLIS = 250;
+
+    private final String browser;
+    private final int minIdle;
+    private final int maxTotal;
+    private final long borrowTimeoutMillis;
+    private final long maxSessionAgeMillis;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> borrowed = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSessions = new AtomicInteger();
+    private final AtomicInteger warming = new AtomicInteger();
+    private final ExecutorService warmer;
+    private final DriverPoolStats stats;
+    private volatile boolean closed;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdownAll, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Get (or lazily create) the pool for a browser type
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @return Shared pool for that browser
+     */
+    public static DriverPool forBrowser(String browser) {
+        return pools.computeIfAbsent(DriverFactory.normalizeBrowser(browser), DriverPool::new);
+    }
+
+    /**
+     * Get statistics of every pool created in this JVM
+     * @return Collection of pool statistics
+     */
+    public static Collection<DriverPoolStats> getAllStats() {
+        List<DriverPoolStats> all = new ArrayList<>();
+        for (DriverPool pool : pools.values()) {
+            all.add(pool.getStats());
+        }
+        return all;
+    }
+
+    /**
+     * Quit every pooled session and stop all pools
+     */
+    public static void shutdownAll() {
+        for (DriverPool pool : pools.values()) {
+            pool.shutdown();
+        }
+        pools.clear();
+    }
+
+    private DriverPool(String browser) {
+        this.browser = browser;
+        this.maxTotal = Math.max(1, ConfigManager.getDriverPoolMaxTotal());
+        this.minIdle = Math.max(0, Math.min(ConfigManager.getDriverPoolMinIdle(), maxTotal));
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(ConfigManager.getDriverPoolBorrowTimeout());
+        this.maxSessionAgeMillis = TimeUnit.SECONDS.toMillis(ConfigManager.getDriverPoolMaxSessionAge());
+        this.stats = new DriverPoolStats(browser);
+        this.warmer = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-" + browser);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Driver pool created for " + browser + " (minIdle=" + minIdle + ", maxTotal=" + maxTotal + ")");
+        replenish();
+    }
+
+    /**
+     * Borrow a session from the pool
+     * Prefers a warm idle session, starts one on the calling thread when none is on the way,
+     * and otherwise waits for a session to be returned.
+     * @return Ready-to-use WebDriver instance
+     */
+    public WebDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool for " + browser + " is shut down");
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        boolean hit = true;
+        PooledSession session = pollFreshSession(0);
+
+        while (session == null) {
+            if (warming.get() == 0 && reserveSlot()) {
+                hit = false;
+                session = startSession();
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Timed out after " + borrowTimeoutMillis
+                        + " ms waiting for a " + browser + " session from the pool");
+            }
+            session = pollFreshSession(POLL_SLICE_MILLIS);
+        }
+
+        long waitNanos = System.nanoTime() - start;
+        session.markUsed();
+        borrowed.put(session.getDriver(), session);
+        stats.recordBorrow(hit, waitNanos, session.getAgeMillis());
+        logger.info("Borrowed " + browser + " session (" + (hit ? "hit" : "miss") + ", waited "
+                + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms, age " + session.getAgeMillis() + " ms)");
+        replenish();
+        return session.getDriver();
+    }
+
+    /**
+     * Return a borrowed session to the pool
+     * The session is reset first; sessions that fail the reset or are too old are quit.
+     * @param driver - WebDriver obtained from borrow()
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledSession session = borrowed.remove(driver);
+        if (session == null) {
+            logger.warn("Session was not borrowed from the " + browser + " pool, quitting it");
+            quietQuit(driver);
+            return;
+        }
+        if (closed || isExpired(session) || isWornOut(session) || SessionWatchdog.isHung(driver)
+                || !SessionResetter.reset(driver)) {
+            discard(session);
+        } else {
+            idle.offerFirst(session);
+            logger.info("Returned " + browser + " session to pool (idle=" + idle.size() + ")");
+        }
+        replenish();
+    }
+
+    /**
+     * Remove a borrowed session from the pool and quit it (e.g. after the browser crashed)
+     * @param driver - WebDriver obtained from borrow()
+     */
+    public void invalidate(WebDriver driver) {
+        PooledSession session = borrowed.remove(driver);
+        if (session != null) {
+            discard(session);
+            replenish();
+        }
+    }
+
+    /**
+     * Get live statistics for this pool
+     * @return Pool statistics
+     */
+    public DriverPoolStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Quit all sessions of this pool
+     */
+    public void shutdown() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        warmer.shutdownNow();
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            discard(session);
+        }
+        for (PooledSession active : borrowed.values()) {
+            discard(active);
+        }
+        borrowed.clear();
+        logger.info(stats.toString());
+    }
+
+    // ======================== INTERNALS ========================
+
+    /**
+     * Take an idle session, retiring any that exceeded the maximum age or were killed by the watchdog
+     */
+    private PooledSession pollFreshSession(long timeoutMillis) {
+        try {
+            PooledSession session = idle.pollFirst(timeoutMillis, TimeUnit.MILLISECONDS);
+            while (session != null && (isExpired(session) || SessionWatchdog.isHung(session.getDriver()))) {
+                discard(session);
+                session = idle.pollFirst();
+            }
+            return session;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled session", e);
+        }
+    }
+
+    /**
+     * Start background sessions until minIdle sessions are idle or on the way
+     */
+    private void replenish() {
+        while (!closed && idle.size() + warming.get() < minIdle && reserveSlot()) {
+            warming.incrementAndGet();
+            try {
+                warmer.submit(() -> {
+                    try {
+                        PooledSession session = startSession();
+                        if (closed) {
+                            discard(session);
+                        } else {
+                            idle.offerLast(session);
+                        }
+                    } catch (Exception e) {
+                        logger.error("Failed to pre-start " + browser + " session", e);
+                    } finally {
+                        warming.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The pool was closed concurrently: give the slot back and stop warming
+                warming.decrementAndGet();
+                totalSessions.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalSessions.get();
+            if (current >= maxTotal) {
+                return false;
+            }
+            if (totalSessions.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Start a session for a slot reserved with reserveSlot()
+     */
+    private PooledSession startSession() {
+        try {
+            WebDriver driver = DriverFactory.createDriver(browser);
+            stats.recordCreated();
+            return new PooledSession(driver, browser);
+        } catch (RuntimeException e) {
+            totalSessions.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return maxSessionAgeMillis > 0 && session.getAgeMillis() > maxSessionAgeMillis;
+    }
+
+    /**
+     * Check if a session served the maximum number of tests (driver.recycle.max.tests)
+     */
+    private boolean isWornOut(PooledSession session) {
+        int maxTests = ConfigManager.getDriverRecycleMaxTests();
+        return maxTests > 0 && session.getUseCount() >= maxTests;
+    }
+
+    private void discard(PooledSession session) {
+        totalSessions.decrementAndGet();
+        stats.recordDiscarded();
+        quietQuit(session.getDriver());
+    }
+
+    private void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting " + browser + " session: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.seleniumjava.driver;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live statistics for a DriverPool
+ * Hit  = borrow served by an already started session
+ * Miss = borrow had to start a new browser on the calling thread
+ */
+public class DriverPoolStats {
+    private final String browser;
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalSessionAgeMillis = new AtomicLong();
+    private final AtomicLong maxSessionAgeMillis = new AtomicLong();
+    private final AtomicLong sessionsCreated = new AtomicLong();
+    private final AtomicLong sessionsDiscarded = new AtomicLong();
+
+    DriverPoolStats(String browser) {
+        this.browser = browser;
+    }
+
+    void recordBorrow(boolean hit, long waitNanos, long sessionAgeMillis) {
+        borrows.incrementAndGet();
+        if (hit) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        totalSessionAgeMillis.addAndGet(sessionAgeMillis);
+        maxSessionAgeMillis.accumulateAndGet(sessionAgeMillis, Math::max);
+    }
+
+    void recordCreated() {
+        sessionsCreated.incrementAndGet();
+    }
+
+    void recordDiscarded() {
+        sessionsDiscarded.incrementAndGet();
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public long getBorrows() {
+        return borrows.get();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Get fraction of borrows served by a pre-started session
+     * @return Hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        long total = borrows.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    public long getAverageBorrowWaitMillis() {
+        long total = borrows.get();
+        return total == 0 ? 0 : totalWaitNanos.get() / total / 1_000_000;
+    }
+
+    public long getMaxBorrowWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000;
+    }
+
+    public long getAverageSessionAgeMillis() {
+        long total = borrows.get();
+        return total == 0 ? 0 : totalSessionAgeMillis.get() / total;
+    }
+
+    public long getMaxSessionAgeMillis() {
+        return maxSessionAgeMillis.get();
+    }
+
+    public long getSessionsCreated() {
+        return sessionsCreated.get();
+    }
+
+    public long getSessionsDiscarded() {
+        return sessionsDiscarded.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DriverPool[" + browser + "]"
+                + " borrows=" + getBorrows()
+                + ", hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", avgWait=" + getAverageBorrowWaitMillis() + "ms"
+                + ", maxWait=" + getMaxBorrowWaitMillis() + "ms"
+                + ", avgSessionAge=" + getAverageSessionAgeMillis() + "ms"
+                + ", maxSessionAge=" + getMaxSessionAgeMillis() + "ms"
+                + ", created=" + getSessionsCreated()
+                + ", discarded=" + getSessionsDiscarded();
+    }
+}
@@ -0,0 +1,152 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.WaitRegistry;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * DriverRegistry binds browser sessions to the thread running the test
+ * TestNG runs @BeforeMethod, the test method, its listeners and @AfterMethod on the same worker thread,
+ * so pages, utils and listeners can look up the session of the current test without sharing a field.
+ * This is what makes parallel="methods" safe for methods of one test class.
+ *
+ * Usage:
+ *   DriverRegistry.register(driver, WebDriver::quit);   // in setup
+ *   WebDriver driver = DriverRegistry.getDriver();       // anywhere on the test thread
+ *   DriverRegistry.release();                            // in teardown
+ */
+public class DriverRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(DriverRegistry.class);
+    private static final ThreadLocal<Binding> binding = new ThreadLocal<>();
+    private static final Map<Thread, Binding> activeBindings = new ConcurrentHashMap<>();
+
+    /**
+     * A session bound to a thread together with the action that gives it back
+     */
+    private static class Binding {
+        private final WebDriver driver;
+        private final Consumer<WebDriver> releaser;
+
+        private Binding(WebDriver driver, Consumer<WebDriver> releaser) {
+            this.driver = driver;
+            this.releaser = releaser;
+        }
+    }
+
+    /**
+     * Bind a session to the current thread; it is quit on release
+     * @param driver - WebDriver instance
+     */
+    public static void register(WebDriver driver) {
+        register(driver, WebDriver::quit);
+    }
+
+    /**
+     * Bind a session to the current thread
+     * @param driver - WebDriver instance
+     * @param releaser - Action run on release (quit, return to pool, ...)
+     */
+    public static void register(WebDriver driver, Consumer<WebDriver> releaser) {
+        Binding previous = binding.get();
+        if (previous != null && previous.driver != driver) {
+            logger.warn("Thread " + Thread.currentThread().getName()
+                    + " already has a session bound, releasing it first");
+            release();
+        }
+        Binding current = new Binding(driver, releaser);
+        binding.set(current);
+        activeBindings.put(Thread.currentThread(), current);
+    }
+
+    /**
+     * Get the session bound to the current thread
+     * @return WebDriver instance or null if none is bound
+     */
+    public static WebDriver getDriver() {
+        Binding current = binding.get();
+        return current == null ? null : current.driver;
+    }
+
+    /**
+     * Get the session bound to the current thread, failing if there is none
+     * @return WebDriver instance
+     */
+    public static WebDriver requireDriver() {
+        WebDriver driver = getDriver();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName()
+                    + ". Call BaseTest.setup() first");
+        }
+        return driver;
+    }
+
+    /**
+     * Check if the current thread has a session bound
+     * @return true if a session is bound
+     */
+    public static boolean hasDriver() {
+        return binding.get() != null;
+    }
+
+    /**
+     * Check if a session is bound to any thread
+     * @param driver - WebDriver instance
+     * @return true if some thread currently owns the session
+     */
+    public static boolean isBound(WebDriver driver) {
+        for (Binding active : activeBindings.values()) {
+            if (active.driver == driver) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unbind the current thread's session without releasing it
+     * @return The unbound WebDriver or null
+     */
+    public static WebDriver unbind() {
+        Binding current = binding.get();
+        binding.remove();
+        activeBindings.remove(Thread.currentThread());
+        return current == null ? null : current.driver;
+    }
+
+    /**
+     * Unbind the current thread's session and run its release action
+     * @return The released WebDriver or null if none was bound
+     */
+    public static WebDriver release() {
+        Binding current = binding.get();
+        unbind();
+        if (current == null) {
+            return null;
+        }
+        WaitRegistry.clear(current.driver);
+        try {
+            current.releaser.accept(current.driver);
+        } catch (Exception e) {
+            logger.warn("Error releasing session: " + e.getMessage());
+        }
+        return current.driver;
+    }
+
+    /**
+     * Get all sessions currently bound to any thread
+     * @return Snapshot of bound sessions
+     */
+    public static Collection<WebDriver> getActiveDrivers() {
+        Collection<WebDriver> drivers = new ArrayList<>();
+        for (Binding active : activeBindings.values()) {
+            drivers.add(active.driver);
+        }
+        return drivers;
+    }
+}
@@ -0,0 +1,257 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkBlocker stops third-party requests (ads, analytics, fonts, ...) in Chrome/Edge sessions
+ *
+ * The blocklist is applied in the browser with DevTools Network.setBlockedURLs when the session starts.
+ * An optional host allowlist fails every request to other hosts through the DevTools Fetch domain.
+ * Blocked requests are counted per page; saved bytes are estimated from the average size of
+ * resources of the same type that were actually loaded.
+ *
+ * Configuration (config.properties):
+ *   network.blocking.enabled=true    - Install the blocker on new Chrome sessions
+ *   network.block.defaults=true      - Include the built-in ad/analytics/font list
+ *   network.block.urls=*cdn.example.com/tracker*,*.gif   - Extra URL patterns ('*' wildcard)
+ *   network.allow.hosts=example.com,localhost            - If set, only these hosts (and subdomains) load
+ */
+public class NetworkBlocker {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+    private static final Map<WebDriver, NetworkBlocker> blockers = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final List<String> DEFAULT_BLOCKLIST = Arrays.asList(
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+            "*googlesyndication.com*", "*googleadservices.com*", "*adservice.google.*",
+            "*connect.facebook.net*", "*hotjar.com*", "*segment.io*", "*newrelic.com*",
+            "*fonts.googleapis.com*", "*fonts.gstatic.com*");
+    private static final Map<String, Long> DEFAULT_SIZES = new HashMap<>();
+
+    static {
+        DEFAULT_SIZES.put("Script", 40_000L);
+        DEFAULT_SIZES.put("Image", 25_000L);
+        DEFAULT_SIZES.put("Font", 30_000L);
+        DEFAULT_SIZES.put("Stylesheet", 15_000L);
+        DEFAULT_SIZES.put("Media", 100_000L);
+    }
+
+    private final List<String> allowedHosts;
+    private final String windowHandle;
+    private final Map<String, String> requestTypes = new ConcurrentHashMap<>();
+    private final Map<String, long[]> loadedSizes = new ConcurrentHashMap<>();
+    private final AtomicLong pageBlocked = new AtomicLong();
+    private final AtomicLong pageBytesSaved = new AtomicLong();
+    private final AtomicLong totalBlocked = new AtomicLong();
+    private final AtomicLong totalBytesSaved = new AtomicLong();
+
+    private NetworkBlocker(List<String> allowedHosts, String windowHandle) {
+        this.allowedHosts = allowedHosts;
+        this.windowHandle = windowHandle;
+    }
+
+    /**
+     * Install blocking on a new session if enabled in the configuration
+     * Sessions without DevTools support (e.g. Firefox) are left untouched.
+     * DevTools attaches to the current window, so context sessions must switch to their tab first.
+     * @param driver - WebDriver instance
+     */
+    public static void installIfEnabled(WebDriver driver) {
+        if (!ConfigManager.isNetworkBlockingEnabled()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.info("Network blocking skipped: " + driver.getClass().getSimpleName() + " has no DevTools");
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            String windowHandle = driver.getWindowHandle();
+            devTools.createSessionIfThereIsNotOne(windowHandle);
+            NetworkBlocker blocker = new NetworkBlocker(ConfigManager.getNetworkAllowHosts(), windowHandle);
+            blocker.install(devTools, buildBlocklist());
+            blockers.put(driver, blocker);
+        } catch (Exception e) {
+            logger.warn("Could not install network blocking: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start counting blocked requests for a new page
+     * @param driver - WebDriver instance (no-op without blocker)
+     */
+    public static void beginPage(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        if (blocker != null) {
+            blocker.pageBlocked.set(0);
+            blocker.pageBytesSaved.set(0);
+        }
+    }
+
+    /**
+     * Log the requests blocked since beginPage()
+     * @param driver - WebDriver instance (no-op without blocker)
+     * @param url - URL of the page
+     */
+    public static void endPage(WebDriver driver, String url) {
+        NetworkBlocker blocker = blockers.get(driver);
+        if (blocker != null) {
+            if (!blocker.windowHandle.equals(driver.getWindowHandle())) {
+                logger.warn("Blocked request counts cover tab " + blocker.windowHandle
+                        + ", not the current tab; " + url + " was not counted");
+                return;
+            }
+            logger.info("Blocked " + blocker.pageBlocked.get() + " requests (~" + blocker.pageBytesSaved.get() / 1024
+                    + " KB saved) on " + url);
+        }
+    }
+
+    /**
+     * Get total requests blocked in a session
+     * @param driver - WebDriver instance
+     * @return Blocked request count, 0 without blocker
+     */
+    public static long getBlockedRequests(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        return blocker == null ? 0 : blocker.totalBlocked.get();
+    }
+
+    /**
+     * Get estimated bytes not downloaded in a session
+     * @param driver - WebDriver instance
+     * @return Estimated bytes saved, 0 without blocker
+     */
+    public static long getBytesSaved(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        return blocker == null ? 0 : blocker.totalBytesSaved.get();
+    }
+
+    // ======================== DEVTOOLS ========================
+
+    private static List<String> buildBlocklist() {
+        List<String> patterns = new ArrayList<>();
+        if (ConfigManager.isNetworkBlockDefaults()) {
+            patterns.addAll(DEFAULT_BLOCKLIST);
+        }
+        patterns.addAll(ConfigManager.getNetworkBlockUrls());
+        return patterns;
+    }
+
+    private void install(DevTools devTools, List<String> blocklist) {
+        devTools.addListener(event("Network.requestWillBeSent"), params -> {
+            Object type = params.get("type");
+            if (type != null) {
+                requestTypes.put(String.valueOf(params.get("requestId")), type.toString());
+            }
+        });
+        devTools.addListener(event("Network.loadingFinished"), params -> {
+            String type = requestTypes.remove(String.valueOf(params.get("requestId")));
+            Object length = params.get("encodedDataLength");
+            if (type != null && length instanceof Number) {
+                long[] sizes = loadedSizes.computeIfAbsent(type, key -> new long[2]);
+                synchronized (sizes) {
+                    sizes[0] += ((Number) length).longValue();
+                    sizes[1]++;
+                }
+            }
+        });
+        devTools.addListener(event("Network.loadingFailed"), params -> {
+            String type = requestTypes.remove(String.valueOf(params.get("requestId")));
+            boolean blocked = params.get("blockedReason") != null
+                    || String.valueOf(params.get("errorText")).contains("ERR_BLOCKED_BY_CLIENT");
+            if (blocked) {
+                long bytes = estimateSize(type != null ? type : String.valueOf(params.get("type")));
+                pageBlocked.incrementAndGet();
+                totalBlocked.incrementAndGet();
+                pageBytesSaved.addAndGet(bytes);
+                totalBytesSaved.addAndGet(bytes);
+            }
+        });
+
+        devTools.send(new Command<Void>("Network.enable", new HashMap<>()));
+        Map<String, Object> blocked = new HashMap<>();
+        blocked.put("urls", blocklist);
+        devTools.send(new Command<Void>("Network.setBlockedURLs", blocked));
+
+        if (!allowedHosts.isEmpty()) {
+            installAllowlist(devTools);
+        }
+        logger.info("Network blocking installed (" + blocklist.size() + " patterns"
+                + (allowedHosts.isEmpty() ? "" : ", allowed hosts " + allowedHosts) + ")");
+    }
+
+    /**
+     * Pause every request and fail those whose host is not allowed
+     */
+    private void installAllowlist(DevTools devTools) {
+        devTools.addListener(event("Fetch.requestPaused"), params -> {
+            Map<String, Object> command = new HashMap<>();
+            command.put("requestId", params.get("requestId"));
+            @SuppressWarnings("unchecked")
+            Map<String, Object> request = (Map<String, Object>) params.get("request");
+            String url = request == null ? "" : String.valueOf(request.get("url"));
+            if (isAllowed(url)) {
+                devTools.send(new Command<Void>("Fetch.continueRequest", command));
+            } else {
+                command.put("errorReason", "BlockedByClient");
+                devTools.send(new Command<Void>("Fetch.failRequest", command));
+            }
+        });
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", "*");
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", Collections.singletonList(pattern));
+        devTools.send(new Command<Void>("Fetch.enable", params));
+    }
+
+    private boolean isAllowed(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+        if (host == null) {
+            // data:, blob:, about: and similar URLs never leave the browser
+            return true;
+        }
+        for (String allowed : allowedHosts) {
+            if (host.equals(allowed) || host.endsWith("." + allowed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long estimateSize(String type) {
+        long[] sizes = loadedSizes.get(type);
+        if (sizes != null) {
+            synchronized (sizes) {
+                if (sizes[1] > 0) {
+                    return sizes[0] / sizes[1];
+                }
+            }
+        }
+        return DEFAULT_SIZES.getOrDefault(type, 5_000L);
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,175 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PageLoadTimer measures time-to-interactive of navigations and what the page-load strategy saved
+ *
+ * begin() is called before a navigation and ready() once the page is usable (navigation returned and
+ * the page's readiness waits passed). The full load time of the page is read from the Navigation Timing
+ * API (loadEventEnd) just before the next navigation or at flush(), when the load has usually finished.
+ * The sample is dropped if the browser moved to another document in between (a click or form submit
+ * navigated away): performance.timeOrigin, recorded at ready(), tells the documents apart.
+ * Saved time = full load - time-to-interactive, so with the "normal" strategy it stays close to 0.
+ * Each measured navigation costs two extra script calls, so timing is off unless page.load.timing.enabled
+ * is set; begin() then does nothing and ready()/flush() find no navigation to complete.
+ *
+ * Usage:
+ *   PageLoadTimer.begin(driver);
+ *   driver.navigate().to(url);
+ *   ... wait for the page ...
+ *   PageLoadTimer.ready(driver, url);
+ */
+public class PageLoadTimer {
+    private static final Logger logger = LoggerFactory.getLogger(PageLoadTimer.class);
+    private static final Map<WebDriver, Navigation> navigations = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong measured = new AtomicLong();
+    private static final AtomicLong totalInteractiveMillis = new AtomicLong();
+    private static final AtomicLong fullLoads = new AtomicLong();
+    private static final AtomicLong totalFullLoadMillis = new AtomicLong();
+    private static final AtomicLong totalSavedMillis = new AtomicLong();
+
+    /**
+     * A navigation in progress or waiting for its full load time
+     */
+    private static class Navigation {
+        private final long startNanos = System.nanoTime();
+        private String url;
+        private PageLoadStrategy strategy;
+        private long interactiveMillis;
+        private double readyAtPageMillis = -1;
+        private double timeOrigin;
+    }
+
+    /**
+     * Get the page-load strategy a session was started with
+     * @param driver - WebDriver instance
+     * @return Session page-load strategy, NORMAL if unknown
+     */
+    public static PageLoadStrategy getStrategy(WebDriver driver) {
+        if (driver instanceof HasCapabilities) {
+            Object value = ((HasCapabilities) driver).getCapabilities().getCapability("pageLoadStrategy");
+            PageLoadStrategy strategy = value == null ? null : PageLoadStrategy.fromString(value.toString());
+            if (strategy != null) {
+                return strategy;
+            }
+        }
+        return PageLoadStrategy.NORMAL;
+    }
+
+    /**
+     * Start timing a navigation, completing the measurement of the current page first
+     * @param driver - WebDriver instance
+     */
+    public static void begin(WebDriver driver) {
+        if (!ConfigManager.isPageLoadTimingEnabled()) {
+            return;
+        }
+        flush(driver);
+        navigations.put(driver, new Navigation());
+    }
+
+    /**
+     * Mark the page as interactive
+     * @param driver - WebDriver instance
+     * @param url - URL of the page
+     */
+    public static void ready(WebDriver driver, String url) {
+        Navigation navigation = navigations.get(driver);
+        if (navigation == null || navigation.url != null) {
+            return;
+        }
+        navigation.url = url;
+        navigation.strategy = getStrategy(driver);
+        navigation.interactiveMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - navigation.startNanos);
+        double[] times = pageTimes(driver, "return [performance.now(), performance.timeOrigin];");
+        if (times != null) {
+            navigation.readyAtPageMillis = times[0];
+            navigation.timeOrigin = times[1];
+        }
+        measured.incrementAndGet();
+        totalInteractiveMillis.addAndGet(navigation.interactiveMillis);
+        logger.info("Page interactive after " + navigation.interactiveMillis + " ms (" + navigation.strategy
+                + "): " + url);
+    }
+
+    /**
+     * Read the full load time of the last page and record the time saved
+     * Call before the session is reset or quit.
+     * @param driver - WebDriver instance
+     */
+    public static void flush(WebDriver driver) {
+        Navigation navigation = navigations.remove(driver);
+        if (navigation == null || navigation.url == null || navigation.readyAtPageMillis < 0) {
+            return;
+        }
+        double[] times = pageTimes(driver, "var n = performance.getEntriesByType('navigation')[0];"
+                + " return [n ? n.loadEventEnd : 0, performance.timeOrigin];");
+        if (times == null || times[1] != navigation.timeOrigin) {
+            // Another document is loaded now: its load time says nothing about the measured page
+            logger.debug("Page changed since it became interactive, dropping load sample: " + navigation.url);
+            return;
+        }
+        double loadEventEnd = times[0];
+        if (loadEventEnd <= 0) {
+            // Page still loading (or timing not available): nothing reliable to report
+            return;
+        }
+        long fullLoad = Math.round(loadEventEnd);
+        long saved = Math.max(0, Math.round(loadEventEnd - navigation.readyAtPageMillis));
+        fullLoads.incrementAndGet();
+        totalFullLoadMillis.addAndGet(fullLoad);
+        totalSavedMillis.addAndGet(saved);
+        logger.info("Full load " + fullLoad + " ms, interactive " + navigation.interactiveMillis + " ms, saved "
+                + saved + " ms (" + navigation.strategy + "): " + navigation.url);
+    }
+
+    /**
+     * Get time-to-interactive statistics
+     * @return Summary text
+     */
+    public static String getSummary() {
+        long count = measured.get();
+        long loads = fullLoads.get();
+        return "PageLoadTimer navigations=" + count
+                + ", avgInteractive=" + (count == 0 ? 0 : totalInteractiveMillis.get() / count) + "ms"
+                + ", avgFullLoad=" + (loads == 0 ? 0 : totalFullLoadMillis.get() / loads) + "ms"
+                + ", totalSaved=" + totalSavedMillis.get() + "ms";
+    }
+
+    public static long getMeasuredCount() {
+        return measured.get();
+    }
+
+    /**
+     * Run a script returning [time, performance.timeOrigin]
+     * @return Both values, null if they could not be read
+     */
+    private static double[] pageTimes(WebDriver driver, String script) {
+        try {
+            Object value = ((JavascriptExecutor) driver).executeScript(script);
+            if (value instanceof List && ((List<?>) value).size() == 2) {
+                List<?> values = (List<?>) value;
+                if (values.get(0) instanceof Number && values.get(1) instanceof Number) {
+                    return new double[]{((Number) values.get(0)).doubleValue(), ((Number) values.get(1)).doubleValue()};
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            logger.debug("Could not read page timing: " + e.getMessage());
+            return null;
+        }
+    }
+}
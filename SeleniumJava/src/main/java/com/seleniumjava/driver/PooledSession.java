@@ -0,0 +1,39 @@
+package com.seleniumjava.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A reusable browser session (pooled or recycled) together with its bookkeeping
+ */
+class PooledSession {
+    private final WebDriver driver;
+    private final String browser;
+    private final long createdAtMillis;
+    private int useCount;
+
+    PooledSession(WebDriver driver, String browser) {
+        this.driver = driver;
+        this.browser = browser;
+        this.createdAtMillis = System.currentTimeMillis();
+    }
+
+    WebDriver getDriver() {
+        return driver;
+    }
+
+    String getBrowser() {
+        return browser;
+    }
+
+    long getAgeMillis() {
+        return System.currentTimeMillis() - createdAtMillis;
+    }
+
+    int getUseCount() {
+        return useCount;
+    }
+
+    void markUsed() {
+        useCount++;
+    }
+}
@@ -0,0 +1,120 @@
+package com.seleniumjava.driver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProcessMetrics finds the driver/browser processes started by this JVM and measures their memory
+ * Resident set size is read from /proc on Linux and from 'ps' on macOS; other platforms report -1.
+ */
+public class ProcessMetrics {
+
+    /**
+     * Get ids of the current direct child processes of this JVM
+     * @return Set of process ids
+     */
+    public static Set<Long> childProcessIds() {
+        Set<Long> ids = new HashSet<>();
+        ProcessHandle.current().children().forEach(child -> ids.add(child.pid()));
+        return ids;
+    }
+
+    /**
+     * Get all processes in the trees of children started since a snapshot
+     * When several sessions start concurrently the trees of all of them are returned.
+     * @param childrenBefore - Result of childProcessIds() taken before starting the session
+     * @return Process ids of the new driver processes and everything they spawned
+     */
+    public static List<Long> newProcessTrees(Set<Long> childrenBefore) {
+        List<Long> ids = new ArrayList<>();
+        ProcessHandle.current().children()
+                .filter(child -> !childrenBefore.contains(child.pid()))
+                .forEach(child -> {
+                    ids.add(child.pid());
+                    child.descendants().forEach(descendant -> ids.add(descendant.pid()));
+                });
+        return ids;
+    }
+
+    /**
+     * Find the driver service process (chromedriver/geckodriver) listening on a port
+     * Driver services are direct children of this JVM started with --port=<port>.
+     * @param port - Port of the driver service
+     * @return Process handle, empty if not found or command lines are not visible
+     */
+    public static Optional<ProcessHandle> findDriverService(int port) {
+        String portArgument = "--port=" + port;
+        return ProcessHandle.current().children()
+                .filter(child -> child.info().commandLine().map(line -> line.contains(portArgument)).orElse(false)
+                        || child.info().arguments().map(args -> Arrays.asList(args).contains(portArgument))
+                        .orElse(false))
+                .findFirst();
+    }
+
+    /**
+     * Get the summed resident set size of processes
+     * @param processIds - Process ids
+     * @return RSS in kilobytes, or -1 if it cannot be measured on this platform
+     */
+    public static long residentSetKb(List<Long> processIds) {
+        long total = 0;
+        for (Long pid : processIds) {
+            long rss = residentSetKb(pid);
+            if (rss < 0) {
+                return -1;
+            }
+            total += rss;
+        }
+        return total;
+    }
+
+    private static long residentSetKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (Files.exists(status)) {
+            try {
+                for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+                return 0;
+            } catch (IOException | NumberFormatException e) {
+                return 0;
+            }
+        }
+        if (System.getProperty("os.name", "").toLowerCase().contains("mac")) {
+            return residentSetFromPs(pid);
+        }
+        return -1;
+    }
+
+    private static long residentSetFromPs(long pid) {
+        try {
+            Process process = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+            String line;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                line = reader.readLine();
+            }
+            process.waitFor(2, TimeUnit.SECONDS);
+            return line == null || line.trim().isEmpty() ? 0 : Long.parseLong(line.trim());
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+}
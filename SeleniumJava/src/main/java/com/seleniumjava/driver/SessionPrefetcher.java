@@ -0,0 +1,195 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionPrefetcher starts the browser for the next test in the background while the current test runs
+ * setup() then takes an already started session and only waits for whatever startup time is left.
+ *
+ * The prefetch depth (sessions started ahead) defaults to the thread-count of the running TestNG suite,
+ * so every worker thread finds a session waiting for it.
+ *
+ * Configuration (config.properties):
+ *   driver.prefetch.enabled=true   - Take sessions from the prefetcher in BaseTest
+ *   driver.prefetch.depth=0        - Sessions started ahead (0 = suite thread-count)
+ */
+public class SessionPrefetcher {
+    private static final Logger logger = LoggerFactory.getLogger(SessionPrefetcher.class);
+    private static final Map<String, SessionPrefetcher> prefetchers = new ConcurrentHashMap<>();
+    private static final AtomicLong taken = new AtomicLong();
+    private static final AtomicLong prefetchHits = new AtomicLong();
+    private static final AtomicLong hiddenMillis = new AtomicLong();
+    private static final AtomicLong waitedMillis = new AtomicLong();
+
+    private final String browser;
+    private final int depth;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<Future<PrefetchedSession>> queue = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionPrefetcher::shutdownAll, "session-prefetcher-shutdown"));
+    }
+
+    /**
+     * A session started in the background and the time its startup took
+     */
+    private static class PrefetchedSession {
+        private final WebDriver driver;
+        private final long startupMillis;
+
+        private PrefetchedSession(WebDriver driver, long startupMillis) {
+            this.driver = driver;
+            this.startupMillis = startupMillis;
+        }
+    }
+
+    /**
+     * Take a started session for the current test and start the next one in the background
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @return WebDriver instance
+     */
+    public static WebDriver take(String browser) {
+        String name = DriverFactory.normalizeBrowser(browser);
+        return prefetchers.computeIfAbsent(name, key -> new SessionPrefetcher(key, resolveDepth())).takeSession();
+    }
+
+    /**
+     * Quit all prefetched sessions that were never taken
+     */
+    public static void shutdownAll() {
+        for (SessionPrefetcher prefetcher : prefetchers.values()) {
+            prefetcher.shutdown();
+        }
+        prefetchers.clear();
+        if (taken.get() > 0) {
+            logger.info(getSummary());
+        }
+    }
+
+    /**
+     * Get prefetch statistics
+     * @return Summary text
+     */
+    public static String getSummary() {
+        return "SessionPrefetcher taken=" + taken.get() + ", prefetched=" + prefetchHits.get()
+                + ", startupHidden=" + hiddenMillis.get() + "ms, startupWaited=" + waitedMillis.get() + "ms";
+    }
+
+    /**
+     * Get total browser startup time that ran in the background instead of in setup()
+     * @return Hidden startup latency in milliseconds
+     */
+    public static long getHiddenMillis() {
+        return hiddenMillis.get();
+    }
+
+    /**
+     * Determine prefetch depth from configuration or the running test's thread-count
+     * Without parallel execution only one session is used at a time, whatever the thread-count.
+     */
+    private static int resolveDepth() {
+        int configured = ConfigManager.getDriverPrefetchDepth();
+        if (configured > 0) {
+            return configured;
+        }
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result != null && result.getTestContext() != null) {
+            // XmlTest falls back to the suite's parallel and thread-count when the test sets none
+            XmlTest test = result.getTestContext().getCurrentXmlTest();
+            XmlSuite.ParallelMode parallel = test.getParallel();
+            if (parallel == null || parallel == XmlSuite.ParallelMode.NONE) {
+                return 1;
+            }
+            return Math.max(1, test.getThreadCount());
+        }
+        return 1;
+    }
+
+    private SessionPrefetcher(String browser, int depth) {
+        this.browser = browser;
+        this.depth = depth;
+        this.executor = Executors.newFixedThreadPool(depth, runnable -> {
+            Thread thread = new Thread(runnable, "session-prefetch-" + browser);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Prefetching " + depth + " " + browser + " session(s) ahead");
+    }
+
+    private WebDriver takeSession() {
+        taken.incrementAndGet();
+        Future<PrefetchedSession> next = queue.poll();
+        fill();
+        if (next == null) {
+            // Nothing started yet (first test): start on the calling thread
+            return DriverFactory.createDriver(browser);
+        }
+        long start = System.nanoTime();
+        try {
+            PrefetchedSession session = next.get();
+            long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long hidden = Math.max(0, session.startupMillis - waited);
+            prefetchHits.incrementAndGet();
+            waitedMillis.addAndGet(waited);
+            hiddenMillis.addAndGet(hidden);
+            logger.info("Took prefetched " + browser + " session (waited " + waited + " ms, hidden " + hidden + " ms)");
+            return session.driver;
+        } catch (ExecutionException e) {
+            logger.warn("Prefetched " + browser + " session failed to start: " + e.getCause().getMessage());
+            return DriverFactory.createDriver(browser);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a prefetched session", e);
+        }
+    }
+
+    /**
+     * Start background sessions until 'depth' sessions are queued
+     */
+    private synchronized void fill() {
+        while (!closed && queue.size() < depth) {
+            queue.add(executor.submit(() -> {
+                long start = System.nanoTime();
+                WebDriver driver = DriverFactory.createDriver(browser);
+                if (closed) {
+                    driver.quit();
+                    throw new IllegalStateException("Prefetcher shut down");
+                }
+                return new PrefetchedSession(driver, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }));
+        }
+    }
+
+    private void shutdown() {
+        closed = true;
+        Future<PrefetchedSession> pending;
+        while ((pending = queue.poll()) != null) {
+            // Cancels sessions that have not started; those already starting quit themselves once they see 'closed'
+            if (!pending.cancel(false)) {
+                try {
+                    pending.get().driver.quit();
+                } catch (Exception e) {
+                    logger.warn("Error quitting prefetched session: " + e.getMessage());
+                }
+            }
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,159 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionRecycler reuses the browser session of a thread for its next test instead of quit + new browser
+ * After each test the session is reset with SessionResetter and parked on the thread. It is retired
+ * after a maximum number of tests or a maximum age, or when the reset fails.
+ *
+ * Configuration (config.properties):
+ *   driver.recycle.enabled=true        - Recycle sessions in BaseTest
+ *   driver.recycle.max.tests=20        - Tests served by one session before it is replaced
+ *   driver.recycle.max.age=600         - Seconds after which a session is replaced (0 = never)
+ */
+public class SessionRecycler {
+    private static final Logger logger = LoggerFactory.getLogger(SessionRecycler.class);
+    private static final ThreadLocal<PooledSession> parked = new ThreadLocal<>();
+    private static final Map<Thread, PooledSession> allParked = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> inUse = new ConcurrentHashMap<>();
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong created = new AtomicLong();
+    private static final AtomicLong retired = new AtomicLong();
+    private static final AtomicLong totalStartupMillis = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionRecycler::shutdown, "session-recycler-shutdown"));
+    }
+
+    /**
+     * Get a session for the current thread, reusing its parked session when possible
+     * @param browser - Browser type: "chrome" or "firefox"
+     * @return WebDriver instance
+     */
+    public static WebDriver acquire(String browser) {
+        String name = DriverFactory.normalizeBrowser(browser);
+        PooledSession session = parked.get();
+        parked.remove();
+        allParked.remove(Thread.currentThread());
+
+        if (session != null && SessionWatchdog.isHung(session.getDriver())) {
+            retire(session, "killed by the session watchdog");
+            session = null;
+        }
+        if (session != null && (!session.getBrowser().equals(name) || isWornOut(session))) {
+            retire(session, "limit reached or different browser requested");
+            session = null;
+        }
+        if (session != null) {
+            reused.incrementAndGet();
+            logger.info("Reusing " + name + " session (test #" + (session.getUseCount() + 1)
+                    + ", age " + session.getAgeMillis() + " ms, ~" + getAverageStartupMillis() + " ms startup saved)");
+        } else {
+            long start = System.nanoTime();
+            session = new PooledSession(DriverFactory.createDriver(name), name);
+            created.incrementAndGet();
+            totalStartupMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        session.markUsed();
+        inUse.put(session.getDriver(), session);
+        return session.getDriver();
+    }
+
+    /**
+     * Reset a session and park it for the next test on the current thread
+     * @param driver - WebDriver obtained from acquire()
+     */
+    public static void recycle(WebDriver driver) {
+        PooledSession session = inUse.remove(driver);
+        if (session == null) {
+            logger.warn("Session was not acquired from SessionRecycler, quitting it");
+            driver.quit();
+            return;
+        }
+        if (SessionWatchdog.isHung(driver)) {
+            retire(session, "killed by the session watchdog");
+        } else if (isWornOut(session)) {
+            retire(session, "served " + session.getUseCount() + " tests, age " + session.getAgeMillis() + " ms");
+        } else if (!SessionResetter.reset(driver)) {
+            retire(session, "reset failed");
+        } else {
+            PooledSession previous = parked.get();
+            if (previous != null) {
+                retire(previous, "replaced by a newer session");
+            }
+            parked.set(session);
+            allParked.put(Thread.currentThread(), session);
+        }
+    }
+
+    /**
+     * Quit a session instead of recycling it (e.g. after the browser crashed)
+     * @param driver - WebDriver obtained from acquire()
+     */
+    public static void discard(WebDriver driver) {
+        PooledSession session = inUse.remove(driver);
+        if (session != null) {
+            retire(session, "discarded");
+        }
+    }
+
+    /**
+     * Quit all parked sessions
+     */
+    public static void shutdown() {
+        for (PooledSession session : allParked.values()) {
+            retire(session, "shutdown");
+        }
+        allParked.clear();
+        if (created.get() > 0) {
+            logger.info(getSummary());
+        }
+    }
+
+    /**
+     * Get recycling statistics
+     * @return Summary text
+     */
+    public static String getSummary() {
+        return "SessionRecycler created=" + created.get() + ", reused=" + reused.get()
+                + ", retired=" + retired.get() + ", estimatedSaved=" + reused.get() * getAverageStartupMillis() + "ms";
+    }
+
+    public static long getReusedCount() {
+        return reused.get();
+    }
+
+    /**
+     * Get the average time it took to start a fresh session
+     * @return Average startup time in milliseconds
+     */
+    public static long getAverageStartupMillis() {
+        long count = created.get();
+        return count == 0 ? 0 : totalStartupMillis.get() / count;
+    }
+
+    private static boolean isWornOut(PooledSession session) {
+        int maxTests = ConfigManager.getDriverRecycleMaxTests();
+        long maxAgeMillis = TimeUnit.SECONDS.toMillis(ConfigManager.getDriverRecycleMaxAge());
+        return (maxTests > 0 && session.getUseCount() >= maxTests)
+                || (maxAgeMillis > 0 && session.getAgeMillis() > maxAgeMillis);
+    }
+
+    private static void retire(PooledSession session, String reason) {
+        retired.incrementAndGet();
+        logger.info("Retiring " + session.getBrowser() + " session: " + reason);
+        try {
+            session.getDriver().quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting session: " + e.getMessage());
+        }
+    }
+}
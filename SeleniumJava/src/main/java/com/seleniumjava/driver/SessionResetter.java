@@ -0,0 +1,134 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ElementCache;
+import com.seleniumjava.utils.WindowHandlingUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SessionResetter brings a used browser session back to a clean state so the next test can reuse it
+ *
+ * Reset steps:
+ * 1. Dismiss an open alert
+ * 2. Close every window except the first one
+ * 3. Clear storage: on Chrome/Edge every origin in the navigation history of the session's windows
+ *    through DevTools, elsewhere only the origin of the current page
+ * 4. Delete cookies (all domains on Chrome/Edge through DevTools, current domain elsewhere)
+ * 5. Restore the framework timeouts (implicit wait, page load and script timeout)
+ * 6. Navigate to about:blank
+ *
+ * Session storage belongs to a tab, so only the current page's session storage is cleared;
+ * other windows lose theirs when they are closed.
+ */
+public class SessionResetter {
+    private static final Logger logger = LoggerFactory.getLogger(SessionResetter.class);
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+    private static final String CLEARED_STORAGE_TYPES = "local_storage,indexeddb,websql,cache_storage,service_workers";
+
+    /**
+     * Reset a session for reuse
+     * @param driver - WebDriver instance
+     * @return true if the session is clean, false if it should be quit instead
+     */
+    public static boolean reset(WebDriver driver) {
+        try {
+            dismissAlert(driver);
+            Set<String> handles = BrowserContextManager.getWindowHandles(driver);
+            Set<String> origins = visitedOrigins(driver, handles);
+            if (handles.size() > 1) {
+                WindowHandlingUtils.closeAllWindowsExceptParent(driver);
+                if (BrowserContextManager.getWindowHandles(driver).size() != 1) {
+                    logger.warn("Could not close extra windows during reset");
+                    return false;
+                }
+            }
+            driver.switchTo().defaultContent();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            clearStorage(driver, origins);
+            clearCookies(driver);
+            DriverFactory.configureTimeouts(driver);
+            driver.navigate().to("about:blank");
+            ElementCache.navigated(driver);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void dismissAlert(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+    }
+
+    /**
+     * Collect the http(s) origins in the navigation history of every window (Chrome/Edge only)
+     * Chrome keeps at most 50 history entries per tab, which bounds the origins cleared per reset.
+     */
+    private static Set<String> visitedOrigins(WebDriver driver, Set<String> handles) {
+        Set<String> origins = new LinkedHashSet<>();
+        if (!(driver instanceof ChromiumDriver)) {
+            return origins;
+        }
+        for (String handle : handles) {
+            if (handles.size() > 1) {
+                driver.switchTo().window(handle);
+            }
+            Map<String, Object> history = ((ChromiumDriver) driver)
+                    .executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap());
+            for (Object entry : (List<?>) history.get("entries")) {
+                String origin = originOf(String.valueOf(((Map<?, ?>) entry).get("url")));
+                if (origin != null) {
+                    origins.add(origin);
+                }
+            }
+        }
+        return origins;
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equals(scheme) || "https".equals(scheme))) {
+                return null;
+            }
+            return scheme + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void clearStorage(WebDriver driver, Set<String> origins) {
+        for (String origin : origins) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("origin", origin);
+            params.put("storageTypes", CLEARED_STORAGE_TYPES);
+            ((ChromiumDriver) driver).executeCdpCommand("Storage.clearDataForOrigin", params);
+        }
+    }
+
+    private static void clearCookies(WebDriver driver) {
+        if (driver instanceof ChromiumDriver) {
+            ((ChromiumDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+    }
+}
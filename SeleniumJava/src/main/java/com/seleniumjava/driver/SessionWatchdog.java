@@ -0,0 +1,220 @@
+package com.seleniumjava.driver;
+
+import com.seleniumjava.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionWatchdog detects hung browser sessions in the background and kills them
+ *
+ * Every interval each watched session gets a cheap command (window handles) that must answer within
+ * the deadline. A session that misses it is marked hung and its driver service process tree
+ * (driver + browser) is killed, so the blocked test fails right away instead of waiting for the
+ * HTTP read timeout. DriverPool and SessionRecycler never hand out a hung session again; the next
+ * test gets a fresh one. The check queues behind the test's own commands, so the deadline is never
+ * shorter than the slowest legitimate single command (page load timeout, script timeout, implicit wait)
+ * plus DEADLINE_MARGIN_SECONDS; a lower configured timeout is raised to that with a warning.
+ *
+ * Configuration (config.properties):
+ *   driver.watchdog.enabled=true     - Watch every session started by DriverFactory
+ *   driver.watchdog.interval=30      - Seconds between health checks
+ *   driver.watchdog.timeout=90       - Seconds a session has to answer a health check
+ */
+public class SessionWatchdog {
+    private static final Logger logger = LoggerFactory.getLogger(SessionWatchdog.class);
+    // Selenium's default HTTP read timeout: how long a command to a hung session blocks without the watchdog
+    private static final long COMMAND_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(3);
+    // Head room over the slowest legitimate command for the check's own round trip and queuing
+    private static final int DEADLINE_MARGIN_SECONDS = 30;
+    private static final Set<WebDriver> watched = ConcurrentHashMap.newKeySet();
+    private static final Set<WebDriver> hung = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    private static final AtomicLong checks = new AtomicLong();
+    private static final AtomicLong hungSessions = new AtomicLong();
+    private static final AtomicLong killedProcesses = new AtomicLong();
+    private static final AtomicLong reclaimedMillis = new AtomicLong();
+    private static ScheduledExecutorService scheduler;
+    private static ExecutorService checker;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionWatchdog::shutdown, "session-watchdog-shutdown"));
+    }
+
+    /**
+     * Start watching a session if the watchdog is enabled
+     * @param driver - WebDriver instance
+     */
+    public static void watch(WebDriver driver) {
+        if (!ConfigManager.isDriverWatchdogEnabled()) {
+            return;
+        }
+        watched.add(driver);
+        start();
+    }
+
+    /**
+     * Check if the watchdog found a session hung
+     * @param driver - WebDriver instance
+     * @return true if the session was killed as hung
+     */
+    public static boolean isHung(WebDriver driver) {
+        return driver != null && hung.contains(driver);
+    }
+
+    /**
+     * Get watchdog statistics
+     * @return Summary text
+     */
+    public static String getSummary() {
+        return "SessionWatchdog checks=" + checks.get() + ", hung=" + hungSessions.get()
+                + ", killedProcesses=" + killedProcesses.get() + ", reclaimed=" + reclaimedMillis.get() + "ms";
+    }
+
+    public static long getHungCount() {
+        return hungSessions.get();
+    }
+
+    /**
+     * Get the health check deadline: driver.watchdog.timeout, but at least the slowest legitimate
+     * command (page load, script timeout, implicit wait) plus DEADLINE_MARGIN_SECONDS
+     * @return Deadline in seconds
+     */
+    public static int getDeadlineSeconds() {
+        return Math.max(ConfigManager.getDriverWatchdogTimeout(), getMinimumDeadlineSeconds());
+    }
+
+    private static int getMinimumDeadlineSeconds() {
+        int slowestCommand = Math.max(ConfigManager.getPageLoadTimeout(),
+                Math.max(DriverFactory.SCRIPT_TIMEOUT, ConfigManager.getImplicitWait()));
+        return slowestCommand + DEADLINE_MARGIN_SECONDS;
+    }
+
+    /**
+     * Stop health checks
+     */
+    public static synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            checker.shutdownNow();
+            scheduler = null;
+            checker = null;
+            if (checks.get() > 0) {
+                logger.info(getSummary());
+            }
+        }
+    }
+
+    // ======================== INTERNALS ========================
+
+    private static synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        long interval = Math.max(1, ConfigManager.getDriverWatchdogInterval());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "session-watchdog"));
+        checker = Executors.newCachedThreadPool(runnable -> daemon(runnable, "session-watchdog-check"));
+        scheduler.scheduleWithFixedDelay(SessionWatchdog::checkAll, interval, interval, TimeUnit.SECONDS);
+        int configured = ConfigManager.getDriverWatchdogTimeout();
+        int deadline = getDeadlineSeconds();
+        if (deadline > configured) {
+            logger.warn("driver.watchdog.timeout=" + configured + " s would kill sessions during legitimate slow"
+                    + " commands, using " + deadline + " s");
+        }
+        logger.info("Session watchdog started (interval " + interval + " s, deadline " + deadline + " s)");
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Send a health check to every watched session in parallel and wait for all of them up to the deadline
+     */
+    private static void checkAll() {
+        try {
+            long timeoutMillis = TimeUnit.SECONDS.toMillis(getDeadlineSeconds());
+            Map<WebDriver, Future<?>> pending = new LinkedHashMap<>();
+            for (WebDriver driver : watched) {
+                pending.put(driver, checker.submit(() -> driver.getWindowHandles()));
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            for (Map.Entry<WebDriver, Future<?>> entry : pending.entrySet()) {
+                checks.incrementAndGet();
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                try {
+                    entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    markHung(entry.getKey(), timeoutMillis);
+                } catch (ExecutionException e) {
+                    // Session already quit or browser gone: nothing left to watch
+                    watched.remove(entry.getKey());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Session health check failed: " + e.getMessage());
+        }
+    }
+
+    private static void markHung(WebDriver driver, long detectedAfterMillis) {
+        watched.remove(driver);
+        hung.add(driver);
+        hungSessions.incrementAndGet();
+        reclaimedMillis.addAndGet(Math.max(0, COMMAND_TIMEOUT_MILLIS - detectedAfterMillis));
+        logger.error("Session did not answer within " + detectedAfterMillis + " ms, killing it: " + driver);
+        killProcesses(driver);
+    }
+
+    /**
+     * Kill the driver service of a session together with the browser it started
+     */
+    private static void killProcesses(WebDriver driver) {
+        Optional<ProcessHandle> service = findService(driver);
+        if (!service.isPresent()) {
+            logger.warn("Driver service process not found, the hung session is left to its HTTP timeout");
+            return;
+        }
+        service.get().descendants().forEach(SessionWatchdog::kill);
+        kill(service.get());
+    }
+
+    private static Optional<ProcessHandle> findService(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver
+                && ((RemoteWebDriver) driver).getCommandExecutor() instanceof HttpCommandExecutor) {
+            URL address = ((HttpCommandExecutor) ((RemoteWebDriver) driver).getCommandExecutor())
+                    .getAddressOfRemoteServer();
+            if (address != null && address.getPort() > 0) {
+                return ProcessMetrics.findDriverService(address.getPort());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void kill(ProcessHandle process) {
+        if (process.destroyForcibly()) {
+            killedProcesses.incrementAndGet();
+        }
+    }
+}
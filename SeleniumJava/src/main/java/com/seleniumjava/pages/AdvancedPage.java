@@ -1,7 +1,10 @@
 package com.seleniumjava.pages;
 
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import com.seleniumjava.utils.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Advanced Page Object demonstrating comprehensive Selenium features
@@ -16,6 +19,7 @@ import com.seleniumjava.utils.*;
  * @see com.seleniumjava.utils.DynamicLocatorUtils - Dynamic locator utility methods
  */
 public class AdvancedPage extends BasePage {
+    private static final Logger logger = LoggerFactory.getLogger(AdvancedPage.class);
     
     // ======================== LOCATORS ========================
     
@@ -27,6 +31,7 @@ public class AdvancedPage extends BasePage {
     // File upload
     private By fileInput = byId("file-upload");
     private By uploadButton = byXPath("//button[text()='Upload']");
+    private By uploadResult = byId("uploaded-files");
     
     // Mouse hover elements
     private By hoverElement = byXPath("//div[@class='hover-menu']");
@@ -40,6 +45,7 @@ public class AdvancedPage extends BasePage {
     private By openNewWindowButton = byXPath("//a[text()='Open New Window']");
     
     // Table elements
+    private By dataTable = byId("data-table");
     private By tableRows = byXPath("//table[@id='data-table']//tr");
     private By tableCells = byXPath("//table[@id='data-table']//td");
     
@@ -97,6 +103,19 @@ public class AdvancedPage extends BasePage {
         click(uploadButton);
     }
     
+    /**
+     * Upload file and wait until the upload went through
+     * Done when the submit replaced the document or the upload result is shown; the old document's
+     * readyState would still be "complete" right after the click.
+     */
+    public void uploadFileAndWait(String filePath) {
+        WebElement document = findElement(By.tagName("html"));
+        uploadFileAndClick(filePath);
+        WaitUtils.until(driver, uploadResult, ConfigManager.getPageLoadTimeout(), ExpectedConditions.or(
+                ExpectedConditions.stalenessOf(document), ExpectedConditions.visibilityOfElementLocated(uploadResult)));
+        waitForPageReady();
+    }
+    
     /**
      * Read test data from CSV
      */
@@ -236,16 +255,50 @@ public class AdvancedPage extends BasePage {
     }
     
     /**
-     * Get cell value by row and column index
+     * Read the whole table (headers, cell texts, links) in one script call
+     */
+    public TableData readTable() {
+        return TableReader.of(driver, dataTable).withLinks().read();
+    }
+    
+    /**
+     * Get cell value by row and column index (row 0 = first data row)
+     * Waits for the table to be visible; returns "" if the table, row or column is missing.
+     * Read the table once with readTable() when you need more than a few cells.
+     * Contract change: rowIndex used to count every tr including the header row (row 0 was the header and
+     * returned ""); header rows are no longer counted, so existing callers pass rowIndex - 1. Unlike
+     * getTableRowCount(), which still counts every tr.
      */
     public String getTableCellValue(int rowIndex, int columnIndex) {
-        String xpath = "(" + tableRows.toString().replace("By.xpath: ", "") + ")[" + (rowIndex + 1) + 
-                      "]//td[" + (columnIndex + 1) + "]";
-        return getText(byXPath(xpath));
+        try {
+            return readRows(rowIndex + 1).getCell(rowIndex, columnIndex);
+        } catch (Exception e) {
+            logger.error("Error getting table cell " + rowIndex + "/" + columnIndex, e);
+            return "";
+        }
+    }
+    
+    /**
+     * Get cell value by row index and column header (row 0 = first data row)
+     * Waits for the table to be visible; returns "" if the table, row or column is missing.
+     */
+    public String getTableCellValue(int rowIndex, String header) {
+        try {
+            return readRows(rowIndex + 1).getCell(rowIndex, header);
+        } catch (Exception e) {
+            logger.error("Error getting table cell " + rowIndex + "/" + header, e);
+            return "";
+        }
+    }
+    
+    private TableData readRows(int rows) {
+        waitForElementToBeVisible(dataTable);
+        return TableReader.of(driver, dataTable).maxRows(rows).read();
     }
     
     /**
-     * Get all table data
+     * Get all table cells
+     * Use readTable() for the cell values, it does not need a round trip per cell.
      */
     public java.util.List<WebElement> getTableData() {
         return findElements(tableCells);
@@ -1,11 +1,22 @@
 package com.seleniumjava.pages;
 
+import com.seleniumjava.driver.DriverRegistry;
+import com.seleniumjava.driver.NetworkBlocker;
+import com.seleniumjava.driver.PageLoadTimer;
+import com.seleniumjava.utils.ConfigManager;
+import com.seleniumjava.utils.ElementCache;
+import com.seleniumjava.utils.ElementLookup;
+import com.seleniumjava.utils.ElementSnapshot;
+import com.seleniumjava.utils.LocatorProfiler;
+import com.seleniumjava.utils.ObserverWait;
+import com.seleniumjava.utils.SettledWait;
+import com.seleniumjava.utils.WaitUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.time.Duration;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Enhanced BasePage with comprehensive locator types and methods
@@ -95,17 +106,25 @@ import java.util.List;
  */
 public class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    private final ElementCache elementCache;
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
     private static final int WAIT_TIME = 10;
 
     /**
-     * Constructor to initialize WebDriver and WebDriverWait
+     * Constructor to initialize WebDriver
      * @param driver WebDriver instance
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(WAIT_TIME));
+        this.elementCache = new ElementCache(driver);
+    }
+
+    /**
+     * Constructor using the session bound to the current test thread
+     * @see com.seleniumjava.driver.DriverRegistry
+     */
+    public BasePage() {
+        this(DriverRegistry.requireDriver());
     }
 
     // ======================== LOCATOR STRATEGIES ========================
@@ -191,7 +210,10 @@ public class BasePage {
      */
     protected WebElement waitForElementToBeVisible(By locator) {
         logger.info("Waiting for element visibility: " + locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementVisible(driver, locator, WAIT_TIME);
+        }
+        return WaitUtils.until(driver, locator, WAIT_TIME, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
@@ -201,7 +223,10 @@ public class BasePage {
      */
     protected WebElement waitForElementToBeClickable(By locator) {
         logger.info("Waiting for element clickable: " + locator);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementClickable(driver, locator, WAIT_TIME);
+        }
+        return WaitUtils.until(driver, locator, WAIT_TIME, ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
@@ -210,7 +235,11 @@ public class BasePage {
      */
     protected void waitForElementPresence(By locator) {
         logger.info("Waiting for element presence: " + locator);
-        wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            ObserverWait.waitForElementPresent(driver, locator, WAIT_TIME);
+            return;
+        }
+        WaitUtils.until(driver, locator, WAIT_TIME, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     /**
@@ -219,7 +248,7 @@ public class BasePage {
      */
     protected void waitForElementInvisibility(By locator) {
         logger.info("Waiting for element invisibility: " + locator);
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        WaitUtils.until(driver, locator, WAIT_TIME, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -229,9 +258,68 @@ public class BasePage {
      * @return WebElement once visible
      */
     protected WebElement waitForElement(By locator, int timeoutSeconds) {
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
         logger.info("Waiting for element with timeout: " + timeoutSeconds);
-        return customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementVisible(driver, locator, timeoutSeconds);
+        }
+        return WaitUtils.until(driver, locator, timeoutSeconds, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    // ======================== PAGE LOAD METHODS ========================
+
+    /**
+     * Element that marks this page as usable, waited for by open()
+     * Override in page objects so sessions with the eager/none page-load strategy can
+     * start working before every subresource finished loading.
+     * @return Ready locator, or null to rely on the document ready state only
+     */
+    protected By getReadyLocator() {
+        return null;
+    }
+
+    /**
+     * Readiness this page needs after navigation
+     * NORMAL waits for the load event, EAGER for the parsed DOM, NONE only for the ready locator.
+     * A page cannot load faster than the session's strategy allows (see page.load.strategy).
+     * @return Page readiness, or null to use the session's page-load strategy
+     */
+    protected PageLoadStrategy getPageLoadStrategy() {
+        return null;
+    }
+
+    /**
+     * Navigates to a URL and waits until this page is ready
+     * Time-to-interactive is recorded in PageLoadTimer when page.load.timing.enabled is set.
+     * @param url The URL to open
+     */
+    public void open(String url) {
+        PageLoadTimer.begin(driver);
+        NetworkBlocker.beginPage(driver);
+        driver.navigate().to(url);
+        ElementCache.navigated(driver);
+        waitForPageReady();
+        NetworkBlocker.endPage(driver, url);
+        PageLoadTimer.ready(driver, url);
+        logger.info("Opened page: " + url);
+    }
+
+    /**
+     * Waits for the document ready state and the ready locator of this page
+     */
+    protected void waitForPageReady() {
+        PageLoadStrategy readiness = getPageLoadStrategy();
+        if (readiness == null) {
+            readiness = PageLoadTimer.getStrategy(driver);
+        }
+        By readyLocator = getReadyLocator();
+        if (readyLocator == null && readiness == PageLoadStrategy.NONE) {
+            // Nothing page specific to wait for: at least wait for the DOM
+            readiness = PageLoadStrategy.EAGER;
+        }
+        WaitUtils.waitForDocumentReady(driver, readiness, ConfigManager.getPageLoadTimeout());
+        if (readyLocator != null) {
+            waitForElementToBeVisible(readyLocator);
+        }
     }
 
     // ======================== CLICK METHODS ========================
@@ -242,8 +330,11 @@ public class BasePage {
      */
     public void click(By locator) {
         try {
-            WebElement element = waitForElementToBeClickable(locator);
-            element.click();
+            withElement(locator, this::waitForElementToBeClickable, ExpectedConditions::elementToBeClickable,
+                    element -> {
+                        SettledWait.settleIfEnabled(driver, element).click();
+                        return null;
+                    });
             logger.info("Clicked element: " + locator);
         } catch (Exception e) {
             logger.error("Error clicking element: " + locator, e);
@@ -256,7 +347,7 @@ public class BasePage {
      */
     public void doubleClick(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = SettledWait.settleIfEnabled(driver, findElement(locator));
             org.openqa.selenium.interactions.Actions actions = 
                 new org.openqa.selenium.interactions.Actions(driver);
             actions.doubleClick(element).perform();
@@ -272,7 +363,7 @@ public class BasePage {
      */
     public void rightClick(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = SettledWait.settleIfEnabled(driver, findElement(locator));
             org.openqa.selenium.interactions.Actions actions = 
                 new org.openqa.selenium.interactions.Actions(driver);
             actions.contextClick(element).perform();
@@ -291,9 +382,11 @@ public class BasePage {
      */
     public void type(By locator, String text) {
         try {
-            WebElement element = waitForElementToBeVisible(locator);
-            element.clear();
-            element.sendKeys(text);
+            withElement(locator, this::waitForElementToBeVisible, ExpectedConditions::visibilityOf, element -> {
+                SettledWait.settleIfEnabled(driver, element).clear();
+                element.sendKeys(text);
+                return null;
+            });
             logger.info("Typed text: " + text);
         } catch (Exception e) {
             logger.error("Error typing text: " + text, e);
@@ -307,8 +400,8 @@ public class BasePage {
      */
     public String getText(By locator) {
         try {
-            WebElement element = waitForElementToBeVisible(locator);
-            String text = element.getText();
+            String text = withElement(locator, this::waitForElementToBeVisible, ExpectedConditions::visibilityOf,
+                    WebElement::getText);
             logger.info("Got text: " + text);
             return text;
         } catch (Exception e) {
@@ -325,8 +418,8 @@ public class BasePage {
      */
     public String getAttribute(By locator, String attributeName) {
         try {
-            WebElement element = driver.findElement(locator);
-            String value = element.getAttribute(attributeName);
+            String value = withElement(locator, this::findElement, null,
+                    element -> element.getAttribute(attributeName));
             logger.info("Attribute " + attributeName + " = " + value);
             return value;
         } catch (Exception e) {
@@ -335,6 +428,35 @@ public class BasePage {
         }
     }
 
+    /**
+     * Gets the text of all elements matching the locator in one script call
+     * @param locator The element locator
+     * @return Texts of the matching elements ("" for hidden ones)
+     */
+    public List<String> getTexts(By locator) {
+        return ElementSnapshot.of(driver, locator).text().take().getTexts();
+    }
+
+    /**
+     * Gets an attribute of all elements matching the locator in one script call
+     * @param locator The element locator
+     * @param attributeName The attribute name (e.g., 'href', 'class')
+     * @return Attribute values of the matching elements (null where missing)
+     */
+    public List<String> getAttributeValues(By locator, String attributeName) {
+        return ElementSnapshot.of(driver, locator).attribute(attributeName).take().getAttributes(attributeName);
+    }
+
+    /**
+     * Reads several properties of all elements matching the locator in one script call
+     * e.g. snapshot(rows).text().displayed().attribute("href").take()
+     * @param locator The element locator
+     * @return Snapshot query to select the properties on
+     */
+    protected ElementSnapshot.Query snapshot(By locator) {
+        return ElementSnapshot.of(driver, locator);
+    }
+
     // ======================== ELEMENT STATE METHODS ========================
     
     /**
@@ -343,13 +465,21 @@ public class BasePage {
      * @return true if the element is displayed, false otherwise
      */
     public boolean isElementDisplayed(By locator) {
-        try {
-            WebElement element = driver.findElement(locator);
-            return element.isDisplayed();
-        } catch (Exception e) {
-            logger.info("Element not displayed: " + locator);
-            return false;
+        WebElement cached = ElementCache.isEnabled() ? elementCache.get(locator) : null;
+        if (cached != null) {
+            try {
+                if (cached.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException | NoSuchElementException e) {
+                elementCache.stale(locator);
+            }
+        }
+        if (ElementLookup.isDisplayed(driver, locator)) {
+            return true;
         }
+        logger.info("Element not displayed: " + locator);
+        return false;
     }
 
     /**
@@ -359,8 +489,7 @@ public class BasePage {
      */
     public boolean isElementEnabled(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isEnabled();
+            return withElement(locator, this::findElement, null, WebElement::isEnabled);
         } catch (Exception e) {
             return false;
         }
@@ -373,8 +502,7 @@ public class BasePage {
      */
     public boolean isElementSelected(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isSelected();
+            return withElement(locator, this::findElement, null, WebElement::isSelected);
         } catch (Exception e) {
             return false;
         }
@@ -386,12 +514,46 @@ public class BasePage {
      * @return true if the element is present, false otherwise
      */
     public boolean isElementPresent(By locator) {
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
+        return ElementLookup.isPresent(driver, locator);
+    }
+
+    /**
+     * Checks if an element is present in the DOM, waiting up to the given time in zero-implicit-wait mode
+     * @param locator The element locator
+     * @param timeoutMillis Time to wait for the element in milliseconds
+     * @return true if the element is present, false otherwise
+     */
+    public boolean isElementPresent(By locator, long timeoutMillis) {
+        return ElementLookup.isPresent(driver, locator, timeoutMillis);
+    }
+
+    // ======================== ELEMENT CACHE ========================
+
+    /**
+     * Gets the element cache of this page (hit/miss counters, invalidation)
+     * @return The element cache
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Runs an action on the element of a locator, taking the element from the cache when it is enabled
+     * @param locator The element locator
+     * @param lookup Resolves the locator, e.g. waitForElementToBeClickable
+     * @param ready Condition a cached element is waited for instead of the lookup (null = none)
+     * @param action The action on the element
+     * @return The result of the action
+     */
+    private <T> T withElement(By locator, Function<By, WebElement> lookup,
+                              Function<WebElement, ExpectedCondition<WebElement>> ready,
+                              Function<WebElement, T> action) {
+        if (!ElementCache.isEnabled()) {
+            return action.apply(lookup.apply(locator));
         }
+        return elementCache.use(locator, lookup,
+                element -> ready == null ? element : WaitUtils.until(driver, locator, WAIT_TIME, ready.apply(element)),
+                action);
     }
 
     // ======================== ELEMENT FIND METHODS ========================
@@ -402,7 +564,10 @@ public class BasePage {
      * @return The WebElement
      */
     protected WebElement findElement(By locator) {
-        return driver.findElement(locator);
+        if (LocatorProfiler.isEnabled()) {
+            return LocatorProfiler.profile(driver, getClass(), locator, by -> ElementLookup.find(driver, by));
+        }
+        return ElementLookup.find(driver, locator);
     }
 
     /**
@@ -411,7 +576,10 @@ public class BasePage {
      * @return A list of WebElements
      */
     protected List<WebElement> findElements(By locator) {
-        return driver.findElements(locator);
+        if (LocatorProfiler.isEnabled()) {
+            return LocatorProfiler.profile(driver, getClass(), locator, by -> ElementLookup.findAll(driver, by));
+        }
+        return ElementLookup.findAll(driver, locator);
     }
 
     /**
@@ -420,7 +588,10 @@ public class BasePage {
      * @return A list of WebElements
      */
     protected List<WebElement> getElements(By locator) {
-        return driver.findElements(locator);
+        if (LocatorProfiler.isEnabled()) {
+            return LocatorProfiler.profile(driver, getClass(), locator, by -> ElementLookup.findAll(driver, by));
+        }
+        return ElementLookup.findAll(driver, locator);
     }
 
     /**
@@ -440,7 +611,7 @@ public class BasePage {
      */
     public void scrollToElement(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = findElement(locator);
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
             logger.info("Scrolled to element");
         } catch (Exception e) {
@@ -495,6 +666,7 @@ public class BasePage {
      */
     public void refreshPage() {
         driver.navigate().refresh();
+        ElementCache.navigated(driver);
         logger.info("Page refreshed");
     }
 
@@ -517,7 +689,7 @@ public class BasePage {
      */
     public void highlightElement(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = findElement(locator);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].style.border='3px solid red'", element);
             logger.info("Element highlighted");
@@ -533,8 +705,7 @@ public class BasePage {
      */
     public void acceptAlert() {
         try {
-            WebDriverWait alertWait = new WebDriverWait(driver, Duration.ofSeconds(3));
-            alertWait.until(ExpectedConditions.alertIsPresent());
+            WaitUtils.until(driver, 3, ExpectedConditions.alertIsPresent());
             driver.switchTo().alert().accept();
             logger.info("Alert accepted");
         } catch (Exception e) {
@@ -36,6 +36,14 @@ public class GoogleSearchPage extends BasePage {
         super(driver);
     }
 
+    /**
+     * The search box is all a search needs, so the page is ready before ads and images finish loading
+     */
+    @Override
+    protected By getReadyLocator() {
+        return searchBox;
+    }
+
     /**
      * Search for text in Google search box
      * @param searchText - Text to search
@@ -95,10 +103,8 @@ public class GoogleSearchPage extends BasePage {
      * Navigate to Google home page
      */
     public void navigateToGoogle() {
-        driver.navigate().to("https://www.google.com");
+        // Waits for the search box to be ready
+        open("https://www.google.com");
         logger.info("Navigated to Google home page");
-        
-        // Wait for search box to be ready
-        WaitUtils.waitForElementVisible(driver, searchBox, 10);
     }
 }
@@ -0,0 +1,277 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * AdaptivePolling runs FluentWait waits with a polling schedule that adapts to each locator
+ *
+ * Instead of a fixed interval the wait polls fast at first and backs off exponentially up to the
+ * maximum interval. Every locator (or condition) keeps a moving average of how long it took to appear;
+ * once known, the wait sleeps until shortly before that time and starts the fast polling there.
+ * Fast elements resolve sooner, slow ones cost fewer WebDriver round trips.
+ *
+ * Configuration (config.properties):
+ *   wait.polling.adaptive=true         - Use adaptive polling in the WaitUtils fluent waits
+ *   wait.polling.initial.millis=50     - First polling interval
+ *   wait.polling.backoff=2.0           - Factor applied to the interval after every poll
+ *
+ * Usage:
+ *   WebElement element = AdaptivePolling.until(driver, locator.toString(), 10, 1000, condition);
+ *   AdaptivePolling.WaitResult last = AdaptivePolling.getLastResult();
+ */
+public class AdaptivePolling {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePolling.class);
+    // Weight of the newest appearance time in the moving average
+    private static final double HISTORY_WEIGHT = 0.3;
+    // Start fast polling at this share of the expected appearance time
+    private static final double EARLY_START = 0.8;
+    private static final Map<String, LocatorStats> history = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WaitResult> lastResult = new ThreadLocal<>();
+
+    /**
+     * Outcome of a single wait
+     */
+    public static class WaitResult {
+        private final String key;
+        private final int polls;
+        private final long latencyMillis;
+        private final boolean satisfied;
+
+        private WaitResult(String key, int polls, long latencyMillis, boolean satisfied) {
+            this.key = key;
+            this.polls = polls;
+            this.latencyMillis = latencyMillis;
+            this.satisfied = satisfied;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getPolls() {
+            return polls;
+        }
+
+        public long getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public boolean isSatisfied() {
+            return satisfied;
+        }
+
+        @Override
+        public String toString() {
+            return key + ": " + (satisfied ? "met" : "timed out") + " after " + latencyMillis + " ms, " + polls + " polls";
+        }
+    }
+
+    /**
+     * Polling history of one locator or condition
+     */
+    public static class LocatorStats {
+        private final String key;
+        private long waits;
+        private long timeouts;
+        private long totalPolls;
+        private long totalLatencyMillis;
+        private double expectedMillis = -1;
+
+        private LocatorStats(String key) {
+            this.key = key;
+        }
+
+        private synchronized void record(WaitResult result) {
+            waits++;
+            totalPolls += result.polls;
+            totalLatencyMillis += result.latencyMillis;
+            if (!result.satisfied) {
+                timeouts++;
+            } else if (expectedMillis < 0) {
+                expectedMillis = result.latencyMillis;
+            } else {
+                expectedMillis = HISTORY_WEIGHT * result.latencyMillis + (1 - HISTORY_WEIGHT) * expectedMillis;
+            }
+        }
+
+        private synchronized double getExpected() {
+            return expectedMillis;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public synchronized long getWaits() {
+            return waits;
+        }
+
+        public synchronized long getTimeouts() {
+            return timeouts;
+        }
+
+        public synchronized double getAveragePolls() {
+            return waits == 0 ? 0 : (double) totalPolls / waits;
+        }
+
+        public synchronized long getAverageLatencyMillis() {
+            return waits == 0 ? 0 : totalLatencyMillis / waits;
+        }
+
+        /**
+         * Learned appearance time
+         * @return Expected time until the condition is met in milliseconds, -1 if unknown
+         */
+        public synchronized long getExpectedMillis() {
+            return Math.round(expectedMillis);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%s waits=%d, timeouts=%d, avgPolls=%.1f, avgLatency=%dms, expected=%dms",
+                    key, waits, timeouts, getAveragePolls(), getAverageLatencyMillis(), getExpectedMillis());
+        }
+    }
+
+    /**
+     * Sleeper of one wait: jumps close to the expected appearance time, then backs off exponentially
+     */
+    private static class AdaptiveSleeper implements Sleeper {
+        private final long startNanos = System.nanoTime();
+        private final long deadlineNanos;
+        private final long expectedMillis;
+        private final long initialMillis;
+        private final double backoff;
+        private final long maxMillis;
+        private double nextMillis;
+        private boolean jumped;
+
+        private AdaptiveSleeper(long timeoutMillis, long expectedMillis, long maxMillis) {
+            this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            this.expectedMillis = expectedMillis;
+            this.initialMillis = Math.max(1, ConfigManager.getWaitPollingInitialMillis());
+            this.backoff = Math.max(1.0, ConfigManager.getWaitPollingBackoff());
+            this.maxMillis = Math.max(initialMillis, maxMillis);
+            this.nextMillis = initialMillis;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            long sleepMillis;
+            long earlyStart = (long) (expectedMillis * EARLY_START);
+            if (!jumped && expectedMillis > 0 && elapsedMillis + initialMillis < earlyStart) {
+                // Nothing to see before the element usually appears: skip the early polls
+                sleepMillis = Math.min(earlyStart - elapsedMillis, maxMillis);
+            } else {
+                jumped = true;
+                sleepMillis = Math.round(nextMillis);
+                nextMillis = Math.min(nextMillis * backoff, maxMillis);
+            }
+            // Never sleep past the deadline, so the last poll happens right at the timeout
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            Thread.sleep(Math.max(0, Math.min(sleepMillis, remainingMillis)));
+        }
+    }
+
+    /**
+     * Wait for a condition with adaptive polling
+     * NoSuchElementException and StaleElementReferenceException are ignored while polling.
+     * @param driver WebDriver instance
+     * @param key locator or condition the history is kept for (e.g. By.toString())
+     * @param timeoutSeconds timeout in seconds
+     * @param maxPollingMillis longest interval between two polls
+     * @param condition condition to wait for
+     * @return result of condition
+     */
+    public static <T> T until(WebDriver driver, String key, int timeoutSeconds, long maxPollingMillis,
+                              Function<? super WebDriver, T> condition) {
+        return untilMillis(driver, key, TimeUnit.SECONDS.toMillis(timeoutSeconds), maxPollingMillis, condition);
+    }
+
+    /**
+     * Wait for a condition with adaptive polling and a timeout in milliseconds
+     * Used for waits clamped by the TestDeadline, which rarely end on a whole second.
+     * @param driver WebDriver instance
+     * @param key locator or condition the history is kept for (e.g. By.toString())
+     * @param timeoutMillis timeout in milliseconds
+     * @param maxPollingMillis longest interval between two polls
+     * @param condition condition to wait for
+     * @return result of condition
+     */
+    public static <T> T untilMillis(WebDriver driver, String key, long timeoutMillis, long maxPollingMillis,
+                                    Function<? super WebDriver, T> condition) {
+        LocatorStats stats = history.computeIfAbsent(key, LocatorStats::new);
+        AdaptiveSleeper sleeper = new AdaptiveSleeper(timeoutMillis, Math.round(stats.getExpected()), maxPollingMillis);
+        AtomicInteger polls = new AtomicInteger();
+        FluentWait<WebDriver> wait = new FluentWait<>(driver, Clock.systemDefaultZone(), sleeper)
+                .withTimeout(Duration.ofMillis(timeoutMillis))
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class);
+        boolean satisfied = false;
+        try {
+            T value = wait.until(input -> {
+                polls.incrementAndGet();
+                return condition.apply(input);
+            });
+            satisfied = true;
+            return value;
+        } finally {
+            WaitResult result = new WaitResult(key, polls.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sleeper.startNanos), satisfied);
+            stats.record(result);
+            lastResult.set(result);
+            logger.debug("Adaptive wait " + result);
+        }
+    }
+
+    /**
+     * Get the result of the last adaptive wait on the current thread
+     * @return Last wait result or null
+     */
+    public static WaitResult getLastResult() {
+        return lastResult.get();
+    }
+
+    /**
+     * Get the polling history of a locator or condition
+     * @param key locator or condition key
+     * @return Statistics or null if never waited for
+     */
+    public static LocatorStats getStats(String key) {
+        return history.get(key);
+    }
+
+    /**
+     * Get the polling history of every locator
+     * @return Snapshot of all statistics
+     */
+    public static Collection<LocatorStats> getAllStats() {
+        List<LocatorStats> all = new ArrayList<>(history.values());
+        all.sort((a, b) -> Long.compare(b.getWaits(), a.getWaits()));
+        return all;
+    }
+
+    /**
+     * Forget all learned appearance times
+     */
+    public static void reset() {
+        history.clear();
+    }
+}
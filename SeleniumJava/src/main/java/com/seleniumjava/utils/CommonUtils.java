@@ -4,10 +4,9 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.time.Duration;
 import java.util.Set;
 
 /**
@@ -18,12 +17,24 @@ public class CommonUtils {
 
     /**
      * Wait for page to load completely
+     * With wait.network.idle=true also waits until no fetch/XHR request ran for wait.network.quiet.millis.
      * @param driver - WebDriver instance
      */
     public static void waitForPageLoad(WebDriver driver) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
+        WaitUtils.until(driver, 10, new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                return ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete");
+            }
+
+            @Override
+            public String toString() {
+                return "document.readyState to be complete";
+            }
+        });
+        if (ConfigManager.isNetworkIdleWait()) {
+            WaitUtils.waitForNetworkIdle(driver, ConfigManager.getNetworkQuietMillis(), 10);
+        }
         logger.info("Page loaded successfully");
     }
 
@@ -33,8 +44,7 @@ public class CommonUtils {
      * @param urlPart - Part of URL to wait for
      */
     public static void waitForUrlContains(WebDriver driver, String urlPart) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.urlContains(urlPart));
+        WaitUtils.until(driver, 10, ExpectedConditions.urlContains(urlPart));
         logger.info("URL contains: " + urlPart);
     }
 
@@ -45,8 +55,7 @@ public class CommonUtils {
      */
     public static void handleAlert(WebDriver driver, String action) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            Alert alert = wait.until(ExpectedConditions.alertIsPresent());
+            Alert alert = WaitUtils.until(driver, 5, ExpectedConditions.alertIsPresent());
             
             if (action.toLowerCase().equals("accept")) {
                 alert.accept();
@@ -67,8 +76,7 @@ public class CommonUtils {
      */
     public static String getAlertText(WebDriver driver) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            Alert alert = wait.until(ExpectedConditions.alertIsPresent());
+            Alert alert = WaitUtils.until(driver, 5, ExpectedConditions.alertIsPresent());
             return alert.getText();
         } catch (Exception e) {
             logger.error("Error getting alert text", e);
@@ -82,7 +90,7 @@ public class CommonUtils {
      * @param windowIndex - Window index (0, 1, 2, etc.)
      */
     public static void switchToWindow(WebDriver driver, int windowIndex) {
-        Set<String> windowHandles = driver.getWindowHandles();
+        Set<String> windowHandles = WindowHandlingUtils.getAllWindowHandles(driver);
         if (windowIndex < windowHandles.size()) {
             String window = (String) windowHandles.toArray()[windowIndex];
             driver.switchTo().window(window);
@@ -127,7 +135,7 @@ public class CommonUtils {
      */
     public static void closeOtherWindows(WebDriver driver) {
         String mainWindow = driver.getWindowHandle();
-        Set<String> allWindows = driver.getWindowHandles();
+        Set<String> allWindows = WindowHandlingUtils.getAllWindowHandles(driver);
         
         for (String window : allWindows) {
             if (!window.equals(mainWindow)) {
@@ -141,16 +149,14 @@ public class CommonUtils {
 
     /**
      * Wait for specified milliseconds
+     * The sleep is recorded by SleepAuditor and counts against the sleep budgets.
      * @param milliseconds - Wait time in milliseconds
+     * @deprecated wait for a condition instead (WaitUtils.until, WaitUtils.waitForNetworkIdle, waitForPageLoad)
      */
+    @Deprecated
     public static void threadWait(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-            logger.info("Waited for: " + milliseconds + " ms");
-        } catch (InterruptedException e) {
-            logger.error("Thread interrupted", e);
-            Thread.currentThread().interrupt();
-        }
+        SleepAuditor.sleep(milliseconds);
+        logger.info("Waited for: " + milliseconds + " ms");
     }
 
     /**
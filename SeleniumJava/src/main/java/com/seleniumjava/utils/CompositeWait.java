@@ -0,0 +1,356 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompositeWait waits for several conditions at once and checks all of them in one script per poll
+ *
+ * Modes:
+ *   allOf    - every condition must hold in the same poll
+ *   anyOf    - the first condition that holds ends the wait
+ *   sequence - conditions must be met in the given order (later ones are only checked after earlier ones)
+ *
+ * Conditions on locators, title and URL are evaluated together in a single executeScript call per poll.
+ * Locators that cannot be resolved in the browser (see LocatorSelector) and custom ExpectedConditions
+ * are evaluated with ExpectedConditions in the same poll. Polling runs on the driver's shared
+ * WebDriverWait (WaitUtils.until). The result tells when each condition was first met and which was slowest.
+ *
+ * Usage:
+ *   CompositeWait.Result result = CompositeWait.allOf(driver, 10)
+ *           .visible(By.id("results"))
+ *           .invisible(By.cssSelector(".spinner"))
+ *           .titleContains("Search")
+ *           .await();
+ *   logger.info("Slowest: " + result.getSlowest());
+ */
+public class CompositeWait {
+    private static final Logger logger = LoggerFactory.getLogger(CompositeWait.class);
+
+    private static final String SCRIPT =
+            LocatorSelector.JS_FUNCTIONS
+            + "function test(c) {"
+            + "  var type = c[0];"
+            + "  if (type === 'title') return document.title.indexOf(c[3]) >= 0;"
+            + "  if (type === 'url') return window.location.href.indexOf(c[3]) >= 0;"
+            + "  var el = findElement(c[1], c[2]);"
+            + "  switch (type) {"
+            + "    case 'present': return !!el;"
+            + "    case 'visible': return !!el && isVisible(el);"
+            + "    case 'invisible': return !el || !isVisible(el);"
+            + "    case 'clickable': return !!el && isVisible(el) && !el.disabled;"
+            + "    case 'text': return !!el && (el.innerText || el.textContent || '').indexOf(c[3]) >= 0;"
+            + "  }"
+            + "  return false;"
+            + "}"
+            + "return arguments[0].map(function(c) {"
+            + "  try { return test(c); } catch (e) { return false; }"
+            + "});";
+
+    /**
+     * How the conditions are combined
+     */
+    public enum Mode {
+        ALL_OF, ANY_OF, SEQUENCE
+    }
+
+    /**
+     * One condition: a browser-side check (type/strategy/value/argument) and its ExpectedCondition equivalent
+     */
+    private static class Condition {
+        private final String name;
+        private final List<String> script;
+        private final ExpectedCondition<?> fallback;
+        private long metMillis = -1;
+
+        private Condition(String name, List<String> script, ExpectedCondition<?> fallback) {
+            this.name = name;
+            this.script = script;
+            this.fallback = fallback;
+        }
+    }
+
+    /**
+     * Outcome of a composite wait
+     */
+    public static class Result {
+        private final Mode mode;
+        private final Map<String, Long> metMillis;
+        private final long elapsedMillis;
+        private final int polls;
+
+        private Result(Mode mode, Map<String, Long> metMillis, long elapsedMillis, int polls) {
+            this.mode = mode;
+            this.metMillis = Collections.unmodifiableMap(metMillis);
+            this.elapsedMillis = elapsedMillis;
+            this.polls = polls;
+        }
+
+        /**
+         * Get when each condition was first met
+         * @return Condition name to milliseconds since the wait started (-1 = not met)
+         */
+        public Map<String, Long> getMetMillis() {
+            return metMillis;
+        }
+
+        /**
+         * Get the condition that took longest to be met
+         * @return Condition name, null if none was met
+         */
+        public String getSlowest() {
+            String slowest = null;
+            long max = -1;
+            for (Map.Entry<String, Long> entry : metMillis.entrySet()) {
+                if (entry.getValue() > max) {
+                    max = entry.getValue();
+                    slowest = entry.getKey();
+                }
+            }
+            return slowest;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public int getPolls() {
+            return polls;
+        }
+
+        @Override
+        public String toString() {
+            return mode + " met after " + elapsedMillis + " ms, " + polls + " polls, slowest: " + getSlowest()
+                    + " " + metMillis;
+        }
+    }
+
+    private final WebDriver driver;
+    private final int timeoutSeconds;
+    private final Mode mode;
+    private final List<Condition> conditions = new ArrayList<>();
+
+    private CompositeWait(WebDriver driver, int timeoutSeconds, Mode mode) {
+        this.driver = driver;
+        this.timeoutSeconds = timeoutSeconds;
+        this.mode = mode;
+    }
+
+    /**
+     * Wait until all conditions hold at the same time
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout in seconds
+     * @return Composite wait to add conditions to
+     */
+    public static CompositeWait allOf(WebDriver driver, int timeoutSeconds) {
+        return new CompositeWait(driver, timeoutSeconds, Mode.ALL_OF);
+    }
+
+    /**
+     * Wait until any condition holds
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout in seconds
+     * @return Composite wait to add conditions to
+     */
+    public static CompositeWait anyOf(WebDriver driver, int timeoutSeconds) {
+        return new CompositeWait(driver, timeoutSeconds, Mode.ANY_OF);
+    }
+
+    /**
+     * Wait until the conditions are met one after another in the order they were added
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout for the whole sequence in seconds
+     * @return Composite wait to add conditions to
+     */
+    public static CompositeWait sequence(WebDriver driver, int timeoutSeconds) {
+        return new CompositeWait(driver, timeoutSeconds, Mode.SEQUENCE);
+    }
+
+    // ======================== CONDITIONS ========================
+
+    public CompositeWait present(By locator) {
+        return locatorCondition("present", locator, null, ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    public CompositeWait visible(By locator) {
+        return locatorCondition("visible", locator, null, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    public CompositeWait invisible(By locator) {
+        return locatorCondition("invisible", locator, null, ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+
+    public CompositeWait clickable(By locator) {
+        return locatorCondition("clickable", locator, null, ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    public CompositeWait textPresent(By locator, String text) {
+        return locatorCondition("text", locator, text, ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
+
+    public CompositeWait titleContains(String title) {
+        return add("title contains '" + title + "'", Arrays.asList("title", "", "", title),
+                ExpectedConditions.titleContains(title));
+    }
+
+    public CompositeWait urlContains(String fragment) {
+        return add("url contains '" + fragment + "'", Arrays.asList("url", "", "", fragment),
+                ExpectedConditions.urlContains(fragment));
+    }
+
+    /**
+     * Add any ExpectedCondition; it is evaluated on the Java side in the same poll
+     * @param name name used in the result
+     * @param condition condition to wait for
+     * @return this
+     */
+    public CompositeWait condition(String name, ExpectedCondition<?> condition) {
+        return add(name, null, condition);
+    }
+
+    // ======================== EXECUTION ========================
+
+    /**
+     * Wait until the conditions are met
+     * @return Result with the time each condition was met
+     * @throws org.openqa.selenium.TimeoutException if the conditions are not met in time
+     */
+    public Result await() {
+        if (conditions.isEmpty()) {
+            throw new IllegalStateException("CompositeWait has no conditions");
+        }
+        long start = System.nanoTime();
+        int[] polls = new int[1];
+        WaitUtils.until(driver, timeoutSeconds, new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                polls[0]++;
+                return poll(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)) ? Boolean.TRUE : null;
+            }
+
+            @Override
+            public String toString() {
+                return mode + " of " + pendingNames();
+            }
+        });
+        Map<String, Long> met = new LinkedHashMap<>();
+        for (Condition condition : conditions) {
+            met.put(condition.name, condition.metMillis);
+        }
+        Result result = new Result(mode, met, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), polls[0]);
+        logger.info("Composite wait " + result);
+        return result;
+    }
+
+    /**
+     * Evaluate the conditions that matter in this poll and record when they were first met
+     */
+    private boolean poll(long elapsedMillis) {
+        List<Condition> active = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (mode == Mode.SEQUENCE && condition.metMillis >= 0) {
+                continue;
+            }
+            active.add(condition);
+            if (mode == Mode.SEQUENCE) {
+                // Only the next step of a sequence is checked
+                break;
+            }
+        }
+        boolean[] results = evaluate(active);
+        boolean all = true;
+        boolean any = false;
+        for (int i = 0; i < active.size(); i++) {
+            Condition condition = active.get(i);
+            if (results[i]) {
+                any = true;
+                if (condition.metMillis < 0) {
+                    condition.metMillis = elapsedMillis;
+                }
+            } else {
+                all = false;
+            }
+        }
+        switch (mode) {
+            case ANY_OF:
+                return any;
+            case SEQUENCE:
+                // Advance at most one step per poll, so every step is confirmed in its own poll
+                return conditions.get(conditions.size() - 1).metMillis >= 0;
+            default:
+                return all;
+        }
+    }
+
+    private boolean[] evaluate(List<Condition> active) {
+        boolean[] results = new boolean[active.size()];
+        List<List<String>> scripted = new ArrayList<>();
+        List<Integer> scriptedIndex = new ArrayList<>();
+        boolean javascript = driver instanceof JavascriptExecutor;
+        for (int i = 0; i < active.size(); i++) {
+            Condition condition = active.get(i);
+            if (javascript && condition.script != null) {
+                scripted.add(condition.script);
+                scriptedIndex.add(i);
+            } else {
+                results[i] = holds(condition.fallback);
+            }
+        }
+        if (!scripted.isEmpty()) {
+            Object value = ((JavascriptExecutor) driver).executeScript(SCRIPT, scripted);
+            if (value instanceof List) {
+                List<?> values = (List<?>) value;
+                for (int i = 0; i < values.size() && i < scriptedIndex.size(); i++) {
+                    results[scriptedIndex.get(i)] = Boolean.TRUE.equals(values.get(i));
+                }
+            }
+        }
+        return results;
+    }
+
+    private boolean holds(ExpectedCondition<?> condition) {
+        try {
+            Object value = condition.apply(driver);
+            return value != null && !Boolean.FALSE.equals(value);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    private CompositeWait locatorCondition(String type, By locator, String argument, ExpectedCondition<?> fallback) {
+        LocatorSelector selector = LocatorSelector.from(locator);
+        List<String> script = selector == null ? null
+                : Arrays.asList(type, selector.getStrategy(), selector.getValue(), argument == null ? "" : argument);
+        String name = type + " " + locator + (argument == null ? "" : " '" + argument + "'");
+        return add(name, script, fallback);
+    }
+
+    private CompositeWait add(String name, List<String> script, ExpectedCondition<?> fallback) {
+        conditions.add(new Condition(name, script, fallback));
+        return this;
+    }
+
+    private List<String> pendingNames() {
+        List<String> names = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (condition.metMillis < 0 || mode != Mode.SEQUENCE) {
+                names.add(condition.name);
+            }
+        }
+        return names;
+    }
+}
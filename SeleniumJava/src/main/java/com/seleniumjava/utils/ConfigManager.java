@@ -5,6 +5,8 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -21,13 +23,25 @@ public class ConfigManager {
 
     /**
      * Load properties from config file
+     * When -Denv=<name> is set, environments/<name>.properties is loaded on top of config.properties
      */
     private static void loadProperties() {
+        String resourcesPath = System.getProperty("user.dir") + File.separator
+                + "src" + File.separator + "test" + File.separator + "resources" + File.separator;
+        loadFile(resourcesPath + "config" + File.separator + "config.properties");
+
+        String env = System.getProperty("env");
+        if (env != null && !env.trim().isEmpty()) {
+            loadFile(resourcesPath + "environments" + File.separator + env.trim() + ".properties");
+        }
+    }
+
+    /**
+     * Load a properties file into the configuration, overriding existing keys
+     * @param configPath - Path of the properties file
+     */
+    private static void loadFile(String configPath) {
         try {
-            String configPath = System.getProperty("user.dir") + File.separator 
-                    + "src" + File.separator + "test" + File.separator + "resources" 
-                    + File.separator + "config" + File.separator + "config.properties";
-            
             File file = new File(configPath);
             if (file.exists()) {
                 FileInputStream fileInputStream = new FileInputStream(file);
@@ -44,11 +58,12 @@ public class ConfigManager {
 
     /**
      * Get property value by key
+     * System properties (-Dkey=value) take precedence over the config files
      * @param key - Property key
      * @return Property value
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
     }
 
     /**
@@ -58,7 +73,8 @@ public class ConfigManager {
      * @return Property value or default value
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -93,6 +109,206 @@ public class ConfigManager {
         return Integer.parseInt(getProperty("explicit.wait", "10"));
     }
 
+    /**
+     * Get page load timeout in seconds
+     * @return Page load timeout in seconds
+     */
+    public static int getPageLoadTimeout() {
+        return Integer.parseInt(getProperty("page.load.timeout", "10"));
+    }
+
+    /**
+     * Get page-load strategy for new sessions (normal, eager, none)
+     * @return Strategy name, empty to use the browser profile's strategy
+     */
+    public static String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "").trim();
+    }
+
+    /**
+     * Check if navigations should be timed by PageLoadTimer (page.load.timing.enabled)
+     * @return true if time-to-interactive and full load times are measured
+     */
+    public static boolean isPageLoadTimingEnabled() {
+        return Boolean.parseBoolean(getProperty("page.load.timing.enabled", "false"));
+    }
+
+    /**
+     * Check if element waits should run in the browser with a MutationObserver (wait.mode=observer)
+     * @return true for observer waits, false for WebDriverWait polling
+     */
+    public static boolean isObserverWaitMode() {
+        return getProperty("wait.mode", "polling").trim().equalsIgnoreCase("observer");
+    }
+
+    /**
+     * Check if sessions run without implicit wait and lookups go through ElementLookup (wait.implicit.zero)
+     * @return true for zero-implicit-wait mode
+     */
+    public static boolean isZeroImplicitWait() {
+        return Boolean.parseBoolean(getProperty("wait.implicit.zero", "false"));
+    }
+
+    /**
+     * Get time presence/display checks wait before answering false in zero-implicit-wait mode
+     * @return Timeout in milliseconds
+     */
+    public static long getNegativeCheckTimeoutMillis() {
+        return Long.parseLong(getProperty("wait.negative.timeout.millis", "0"));
+    }
+
+    /**
+     * Check if page objects should cache looked up elements per navigation (ElementCache)
+     * @return true if the element cache is enabled
+     */
+    public static boolean isElementCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("element.cache.enabled", "false"));
+    }
+
+    /**
+     * Check if the fetch/XHR tracker should be registered on every new document at session start
+     * @return true if the network tracker is enabled
+     */
+    public static boolean isNetworkTrackerEnabled() {
+        return Boolean.parseBoolean(getProperty("wait.network.tracker", "false"));
+    }
+
+    /**
+     * Check if CommonUtils.waitForPageLoad should also wait for network idle
+     * @return true if page loads wait for network idle
+     */
+    public static boolean isNetworkIdleWait() {
+        return Boolean.parseBoolean(getProperty("wait.network.idle", "false"));
+    }
+
+    /**
+     * Get time without fetch/XHR activity after which the page counts as idle
+     * @return Quiet period in milliseconds
+     */
+    public static long getNetworkQuietMillis() {
+        return Long.parseLong(getProperty("wait.network.quiet.millis", "500"));
+    }
+
+    /**
+     * Check if interactions should wait for the element to stop moving (SettledWait)
+     * @return true if the settle precondition is enabled
+     */
+    public static boolean isSettleWaitEnabled() {
+        return Boolean.parseBoolean(getProperty("wait.settle.enabled", "false"));
+    }
+
+    /**
+     * Get animation frames an element's bounding box has to stay the same to count as settled
+     * @return Number of frames
+     */
+    public static int getSettleFrames() {
+        return Integer.parseInt(getProperty("wait.settle.frames", "3"));
+    }
+
+    /**
+     * Get longest time an interaction waits for its element to settle
+     * @return Timeout in milliseconds
+     */
+    public static long getSettleTimeoutMillis() {
+        return Long.parseLong(getProperty("wait.settle.timeout.millis", "2000"));
+    }
+
+    /**
+     * Check if waits should be recorded by WaitProfiler
+     * @return true if wait profiling is enabled
+     */
+    public static boolean isWaitProfileEnabled() {
+        return Boolean.parseBoolean(getProperty("wait.profile.enabled", "false"));
+    }
+
+    /**
+     * Get file the wait profile of a run is written to
+     * @return Profile path
+     */
+    public static String getWaitProfilePath() {
+        return getProperty("wait.profile.path", "test-results/wait-profile.json");
+    }
+
+    /**
+     * Check if page object lookups should be timed by LocatorProfiler
+     * @return true if locator profiling is enabled
+     */
+    public static boolean isLocatorProfileEnabled() {
+        return Boolean.parseBoolean(getProperty("locator.profile.enabled", "false"));
+    }
+
+    /**
+     * Check if lookups should use verified faster locators found by LocatorProfiler
+     * @return true if locators are optimized
+     */
+    public static boolean isLocatorOptimize() {
+        return Boolean.parseBoolean(getProperty("locator.profile.optimize", "false"));
+    }
+
+    /**
+     * Get file the locator profile of a run is written to
+     * @return Profile path
+     */
+    public static String getLocatorProfilePath() {
+        return getProperty("locator.profile.path", "test-results/locator-profile.json");
+    }
+
+    /**
+     * Get hard sleep allowed per test (SleepAuditor)
+     * @return Budget in milliseconds, 0 = unlimited
+     */
+    public static long getSleepBudgetTestMillis() {
+        return Long.parseLong(getProperty("sleep.budget.test.millis", "0"));
+    }
+
+    /**
+     * Get hard sleep allowed for the whole run (SleepAuditor)
+     * @return Budget in milliseconds, 0 = unlimited
+     */
+    public static long getSleepBudgetRunMillis() {
+        return Long.parseLong(getProperty("sleep.budget.run.millis", "0"));
+    }
+
+    /**
+     * Check if a test exceeding a sleep budget should fail
+     * @return true to fail, false to log a warning
+     */
+    public static boolean isSleepBudgetFail() {
+        return Boolean.parseBoolean(getProperty("sleep.budget.fail", "false"));
+    }
+
+    /**
+     * Get default deadline of a test method, shared by all its waits (TestDeadline)
+     * @return Deadline in seconds, 0 = no deadline
+     */
+    public static int getTestDeadlineSeconds() {
+        return Integer.parseInt(getProperty("test.deadline.seconds", "0"));
+    }
+
+    /**
+     * Check if WaitUtils fluent waits should use adaptive polling
+     * @return true if adaptive polling is enabled
+     */
+    public static boolean isWaitPollingAdaptive() {
+        return Boolean.parseBoolean(getProperty("wait.polling.adaptive", "false"));
+    }
+
+    /**
+     * Get first polling interval of adaptive waits
+     * @return Initial polling interval in milliseconds
+     */
+    public static int getWaitPollingInitialMillis() {
+        return Integer.parseInt(getProperty("wait.polling.initial.millis", "50"));
+    }
+
+    /**
+     * Get factor applied to the polling interval after every poll of adaptive waits
+     * @return Backoff factor
+     */
+    public static double getWaitPollingBackoff() {
+        return Double.parseDouble(getProperty("wait.polling.backoff", "2.0"));
+    }
+
     /**
      * Check if headless mode is enabled
      * @return true if headless mode is enabled
@@ -100,4 +316,195 @@ public class ConfigManager {
     public static boolean isHeadless() {
         return Boolean.parseBoolean(getProperty("headless", "false"));
     }
+
+    /**
+     * Check if BaseTest should borrow sessions from the driver pool
+     * @return true if the driver pool is enabled
+     */
+    public static boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * Get number of pre-started idle sessions kept per browser
+     * @return Minimum idle sessions
+     */
+    public static int getDriverPoolMinIdle() {
+        return Integer.parseInt(getProperty("driver.pool.min.idle", "1"));
+    }
+
+    /**
+     * Get maximum number of sessions (idle + borrowed) per browser
+     * @return Maximum sessions
+     */
+    public static int getDriverPoolMaxTotal() {
+        return Integer.parseInt(getProperty("driver.pool.max.total", "3"));
+    }
+
+    /**
+     * Get time to wait for a pooled session in seconds
+     * @return Borrow timeout in seconds
+     */
+    public static int getDriverPoolBorrowTimeout() {
+        return Integer.parseInt(getProperty("driver.pool.borrow.timeout", "60"));
+    }
+
+    /**
+     * Get age in seconds after which a pooled session is retired (0 = never)
+     * @return Maximum session age in seconds
+     */
+    public static int getDriverPoolMaxSessionAge() {
+        return Integer.parseInt(getProperty("driver.pool.max.session.age", "600"));
+    }
+
+    /**
+     * Check if resolved driver binaries are cached in the local manifest
+     * @return true if the driver manifest is used
+     */
+    public static boolean isDriverCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.cache.enabled", "true"));
+    }
+
+    /**
+     * Get location of the driver binary manifest
+     * @return Manifest file path ('~' expands to the user home)
+     */
+    public static String getDriverCacheManifest() {
+        return getProperty("driver.cache.manifest", "~/.seleniumjava/driver-manifest.properties");
+    }
+
+    /**
+     * Get name of the browser launch profile
+     * @return Profile name (default, fast-headless, no-images, debug or a custom one)
+     */
+    public static String getBrowserProfile() {
+        return getProperty("browser.profile", "default");
+    }
+
+    /**
+     * Check if BaseTest should reset and reuse sessions instead of quitting them
+     * @return true if session recycling is enabled
+     */
+    public static boolean isDriverRecycleEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.recycle.enabled", "false"));
+    }
+
+    /**
+     * Get number of tests one session may serve before it is replaced (0 = unlimited)
+     * @return Maximum tests per session
+     */
+    public static int getDriverRecycleMaxTests() {
+        return Integer.parseInt(getProperty("driver.recycle.max.tests", "20"));
+    }
+
+    /**
+     * Get age in seconds after which a recycled session is replaced (0 = never)
+     * @return Maximum session age in seconds
+     */
+    public static int getDriverRecycleMaxAge() {
+        return Integer.parseInt(getProperty("driver.recycle.max.age", "600"));
+    }
+
+    /**
+     * Check if BaseTest should take sessions started ahead in the background
+     * @return true if session prefetching is enabled
+     */
+    public static boolean isDriverPrefetchEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.prefetch.enabled", "false"));
+    }
+
+    /**
+     * Get number of sessions started ahead (0 = TestNG suite thread-count)
+     * @return Prefetch depth
+     */
+    public static int getDriverPrefetchDepth() {
+        return Integer.parseInt(getProperty("driver.prefetch.depth", "0"));
+    }
+
+    /**
+     * Check if Chrome sessions should be isolated browser contexts in a shared browser process
+     * @return true if browser contexts are enabled
+     */
+    public static boolean isDriverContextsEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.contexts.enabled", "false"));
+    }
+
+    /**
+     * Get number of browser contexts opened in one browser process
+     * @return Maximum contexts per browser process
+     */
+    public static int getDriverContextsMaxPerBrowser() {
+        return Integer.parseInt(getProperty("driver.contexts.max.per.browser", "5"));
+    }
+
+    /**
+     * Check if sessions should be health-checked by the background watchdog
+     * @return true if the session watchdog is enabled
+     */
+    public static boolean isDriverWatchdogEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.watchdog.enabled", "false"));
+    }
+
+    /**
+     * Get seconds between session health checks
+     * @return Health check interval in seconds
+     */
+    public static int getDriverWatchdogInterval() {
+        return Integer.parseInt(getProperty("driver.watchdog.interval", "30"));
+    }
+
+    /**
+     * Get seconds a session has to answer a health check before it is killed as hung
+     * @return Health check deadline in seconds
+     */
+    public static int getDriverWatchdogTimeout() {
+        return Integer.parseInt(getProperty("driver.watchdog.timeout", "90"));
+    }
+
+    /**
+     * Check if third-party requests should be blocked in Chrome sessions
+     * @return true if network blocking is enabled
+     */
+    public static boolean isNetworkBlockingEnabled() {
+        return Boolean.parseBoolean(getProperty("network.blocking.enabled", "false"));
+    }
+
+    /**
+     * Check if the built-in ad/analytics/font blocklist should be applied
+     * @return true if the default blocklist is used
+     */
+    public static boolean isNetworkBlockDefaults() {
+        return Boolean.parseBoolean(getProperty("network.block.defaults", "true"));
+    }
+
+    /**
+     * Get additional URL patterns to block ('*' wildcard)
+     * @return List of URL patterns
+     */
+    public static List<String> getNetworkBlockUrls() {
+        return getList("network.block.urls");
+    }
+
+    /**
+     * Get hosts allowed to load; requests to other hosts are blocked (empty = allow all)
+     * @return List of host names
+     */
+    public static List<String> getNetworkAllowHosts() {
+        return getList("network.allow.hosts");
+    }
+
+    /**
+     * Get a comma separated property as list
+     * @param key - Property key
+     * @return List of trimmed, non-empty values
+     */
+    private static List<String> getList(String key) {
+        List<String> values = new ArrayList<>();
+        for (String value : getProperty(key, "").split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
 }
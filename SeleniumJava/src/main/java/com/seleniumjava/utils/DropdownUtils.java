@@ -10,6 +10,8 @@ import java.util.stream.Collectors;
  * Handles all dropdown operations (select elements)
  */
 public class DropdownUtils {
+    // Time a custom dropdown has to render its options after the click
+    private static final int OPTIONS_TIMEOUT_SECONDS = 5;
     
     /**
      * Select by visible text
@@ -171,12 +173,14 @@ public class DropdownUtils {
     public static void selectCustomDropdown(WebDriver driver, By dropdownLocator, 
                                            By optionLocator, String optionText) {
         try {
-            WebElement dropdown = driver.findElement(dropdownLocator);
+            WebElement dropdown = ElementLookup.find(driver, dropdownLocator);
             dropdown.click();
             
-            Thread.sleep(500); // Wait for options to appear
+            // Wait for the options to be rendered instead of a fixed delay
+            WaitUtils.until(driver, optionLocator, OPTIONS_TIMEOUT_SECONDS,
+                    ExpectedConditions.visibilityOfElementLocated(optionLocator));
             
-            List<WebElement> options = driver.findElements(optionLocator);
+            List<WebElement> options = ElementLookup.findAll(driver, optionLocator);
             for (WebElement option : options) {
                 if (option.getText().trim().equals(optionText)) {
                     option.click();
@@ -1,6 +1,8 @@
 package com.seleniumjava.utils;
 
 import org.openqa.selenium.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Dynamic Locator Utility Class
@@ -9,10 +11,17 @@ import org.openqa.selenium.*;
  * Provides helper methods for creating dynamic locators using parameter substitution.
  * Useful for elements with dynamic attributes or text that changes at runtime.
  * 
+ * Templates are compiled once into LocatorTemplates and their By instances cached; page objects with
+ * hot templates can hold a LocatorTemplate constant themselves.
+ * 
  * For comprehensive information about all locator strategies, XPath types, axes, functions,
  * and patterns, see: @see com.seleniumjava.pages.BasePage
  */
 public class DynamicLocatorUtils {
+    // Compiled templates by template string (templates are code constants, the limit guards against generated ones)
+    private static final int MAX_TEMPLATES = 256;
+    private static final Map<String, LocatorTemplate> xpathTemplates = new ConcurrentHashMap<>();
+    private static final Map<String, LocatorTemplate> cssTemplates = new ConcurrentHashMap<>();
     
     /**
      * Create dynamic XPath with parameter substitution
@@ -26,12 +35,7 @@ public class DynamicLocatorUtils {
      * returns: "//button[contains(text(), 'Click Me')]"
      */
     public static String getDynamicXPath(String xpathTemplate, String... values) {
-        String xpath = xpathTemplate;
-        
-        for (int i = 0; i < values.length; i++) {
-            xpath = xpath.replace("{" + i + "}", values[i]);
-        }
-        
+        String xpath = fill(template(xpathTemplates, LocatorTemplate.Kind.XPATH, xpathTemplate), values);
         System.out.println("Dynamic XPath: " + xpath);
         return xpath;
     }
@@ -43,12 +47,7 @@ public class DynamicLocatorUtils {
      * @return final CSS selector
      */
     public static String getDynamicCSS(String cssTemplate, String... values) {
-        String css = cssTemplate;
-        
-        for (int i = 0; i < values.length; i++) {
-            css = css.replace("{" + i + "}", values[i]);
-        }
-        
+        String css = fill(template(cssTemplates, LocatorTemplate.Kind.CSS, cssTemplate), values);
         System.out.println("Dynamic CSS: " + css);
         return css;
     }
@@ -62,8 +61,9 @@ public class DynamicLocatorUtils {
      */
     public static WebElement findByDynamicXPath(WebDriver driver, String xpathTemplate, String... values) {
         try {
-            String xpath = getDynamicXPath(xpathTemplate, values);
-            return driver.findElement(By.xpath(xpath));
+            By locator = locator(template(xpathTemplates, LocatorTemplate.Kind.XPATH, xpathTemplate), values);
+            System.out.println("Dynamic XPath: " + locator);
+            return ElementLookup.find(driver, locator);
         } catch (NoSuchElementException e) {
             System.err.println("Element not found with dynamic XPath");
             e.printStackTrace();
@@ -80,8 +80,9 @@ public class DynamicLocatorUtils {
      */
     public static WebElement findByDynamicCSS(WebDriver driver, String cssTemplate, String... values) {
         try {
-            String css = getDynamicCSS(cssTemplate, values);
-            return driver.findElement(By.cssSelector(css));
+            By locator = locator(template(cssTemplates, LocatorTemplate.Kind.CSS, cssTemplate), values);
+            System.out.println("Dynamic CSS: " + locator);
+            return ElementLookup.find(driver, locator);
         } catch (NoSuchElementException e) {
             System.err.println("Element not found with dynamic CSS");
             e.printStackTrace();
@@ -246,14 +247,50 @@ public class DynamicLocatorUtils {
      * @return escaped text safe for XPath
      */
     public static String escapeXPathText(String text) {
-        if (!text.contains("'")) {
-            return "'" + text + "'";
-        } else if (!text.contains("\"")) {
-            return "\"" + text + "\"";
-        } else {
-            // Handle both quotes with concat
-            return "concat('" + text.replace("'", "', \"'\", '") + "')";
+        // Single scan; both quotes are handled with concat
+        StringBuilder literal = new StringBuilder(text.length() + 2);
+        LocatorTemplate.appendXPathLiteral(literal, text, '\'');
+        return literal.toString();
+    }
+    
+    /**
+     * Get the compiled template for a template string
+     */
+    private static LocatorTemplate template(Map<String, LocatorTemplate> templates, LocatorTemplate.Kind kind,
+                                            String template) {
+        LocatorTemplate compiled = templates.get(template);
+        if (compiled == null) {
+            compiled = LocatorTemplate.compile(kind, template, LocatorTemplate.DEFAULT_CACHE_SIZE);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.put(template, compiled);
+            }
+        }
+        return compiled;
+    }
+    
+    /**
+     * Fill in a template; placeholders without a value stay in place as before
+     */
+    private static String fill(LocatorTemplate template, String... values) {
+        if (values.length >= template.getArity()) {
+            return template.format(values);
+        }
+        String locator = template.getTemplate();
+        for (int i = 0; i < values.length; i++) {
+            locator = locator.replace("{" + i + "}", values[i]);
+        }
+        return locator;
+    }
+    
+    /**
+     * Get the cached By of a template; with missing values the placeholders stay in place, uncached
+     */
+    private static By locator(LocatorTemplate template, String... values) {
+        if (values.length >= template.getArity()) {
+            return template.by(values);
         }
+        String locator = fill(template, values);
+        return template.getKind() == LocatorTemplate.Kind.XPATH ? By.xpath(locator) : By.cssSelector(locator);
     }
     
     // ======================== ADDITIONAL XPATH HELPER METHODS ========================
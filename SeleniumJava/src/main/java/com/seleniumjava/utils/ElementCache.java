@@ -0,0 +1,216 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * ElementCache keeps the WebElements a page object looked up, keyed by locator
+ *
+ * Every BasePage owns one cache. A cache hit skips the findElement round trip; staleness costs nothing
+ * extra to detect because the next command on a stale element fails with StaleElementReferenceException
+ * (also for elements of another frame or window). use() then drops the entry, looks the element up again
+ * and repeats the action once.
+ *
+ * The caches of a session are cleared when it navigates: BasePage.open/refreshPage and BaseTest.navigateTo
+ * call navigated(driver). Navigations started by clicks are caught by the stale retry.
+ * Only cache locators that keep pointing at the same element; call invalidate() after actions that make a
+ * locator match a different element without replacing the old one (e.g. a moved "active" class).
+ *
+ * Configuration (config.properties):
+ *   element.cache.enabled=true     - BasePage click/type/getText/getAttribute/is* use the cache
+ */
+public class ElementCache {
+    private static final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+    private static final Map<WebDriver, AtomicLong> navigations = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+    private static final AtomicLong totalStale = new AtomicLong();
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private long navigation;
+    private long hits;
+    private long misses;
+    private long staleRetries;
+
+    /**
+     * Create an empty cache for a page object
+     * @param driver WebDriver instance
+     */
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+        this.navigation = currentNavigation(driver);
+    }
+
+    /**
+     * Check if page objects should cache elements (element.cache.enabled=true)
+     * @return true if the element cache is enabled
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isElementCacheEnabled();
+    }
+
+    /**
+     * Clear the caches of all page objects of a session, call after navigating
+     * @param driver WebDriver instance
+     */
+    public static void navigated(WebDriver driver) {
+        if (driver != null) {
+            navigations.computeIfAbsent(driver, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    // ======================== LOOKUPS ========================
+
+    /**
+     * Get the cached element of a locator
+     * @param locator By locator
+     * @return Cached element, null if not cached since the last navigation
+     */
+    public WebElement get(By locator) {
+        long current = currentNavigation(driver);
+        if (current != navigation) {
+            elements.clear();
+            navigation = current;
+        }
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            hits++;
+            totalHits.incrementAndGet();
+        } else {
+            misses++;
+            totalMisses.incrementAndGet();
+        }
+        return element;
+    }
+
+    /**
+     * Cache the element of a locator
+     * @param locator By locator
+     * @param element element the locator resolved to
+     */
+    public void put(By locator, WebElement element) {
+        if (element != null) {
+            elements.put(locator, element);
+        }
+    }
+
+    /**
+     * Run an action on the element of a locator, from the cache if possible
+     * A cached element goes through ready first (e.g. wait until clickable); if it turns out stale
+     * it is looked up again and the action repeated once.
+     * @param locator By locator
+     * @param lookup resolves the locator on a miss, e.g. wait until clickable
+     * @param ready brings a cached element into the state the lookup waits for
+     * @param action action on the element
+     * @return result of the action
+     */
+    public <T> T use(By locator, Function<By, WebElement> lookup, UnaryOperator<WebElement> ready,
+                     Function<WebElement, T> action) {
+        WebElement element = get(locator);
+        if (element != null) {
+            try {
+                return action.apply(ready.apply(element));
+            } catch (StaleElementReferenceException | NoSuchElementException e) {
+                stale(locator);
+            }
+        }
+        element = lookup.apply(locator);
+        put(locator, element);
+        return action.apply(element);
+    }
+
+    /**
+     * Drop a cached element that turned out stale
+     * @param locator By locator
+     */
+    public void stale(By locator) {
+        elements.remove(locator);
+        staleRetries++;
+        totalStale.incrementAndGet();
+        logger.debug("Cached element is stale, looking it up again: " + locator);
+    }
+
+    /**
+     * Drop the cached element of a locator
+     * @param locator By locator
+     */
+    public void invalidate(By locator) {
+        elements.remove(locator);
+    }
+
+    /**
+     * Drop all cached elements
+     */
+    public void invalidate() {
+        elements.clear();
+    }
+
+    // ======================== REPORTING ========================
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStaleRetries() {
+        return staleRetries;
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    public static long getTotalMisses() {
+        return totalMisses.get();
+    }
+
+    public static long getTotalStaleRetries() {
+        return totalStale.get();
+    }
+
+    /**
+     * Get summary of all caches
+     * @return Summary line
+     */
+    public static String getSummary() {
+        long hitCount = totalHits.get();
+        long lookups = hitCount + totalMisses.get();
+        return "Element cache: " + hitCount + " hits, " + totalMisses.get() + " misses ("
+                + (lookups == 0 ? 0 : hitCount * 100 / lookups) + "% hit rate), "
+                + totalStale.get() + " stale elements looked up again";
+    }
+
+    /**
+     * Reset the totals
+     */
+    public static void reset() {
+        totalHits.set(0);
+        totalMisses.set(0);
+        totalStale.set(0);
+    }
+
+    private static long currentNavigation(WebDriver driver) {
+        AtomicLong count = navigations.get(driver);
+        return count == null ? 0 : count.get();
+    }
+}
@@ -0,0 +1,259 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ElementLookup is the central element lookup used by BasePage and the utils
+ *
+ * With wait.implicit.zero=true sessions run with an implicit wait of 0 and every lookup is an explicit
+ * wait with its own timeout:
+ *   find / findAll         - wait up to implicit.wait seconds (or the given timeout) for the element
+ *   isPresent / isDisplayed - wait wait.negative.timeout.millis (default 0) and answer false right away
+ * Negative checks no longer sit out the implicit wait; the time saved is reported by getSummary().
+ *
+ * Without the mode every method falls back to plain findElement/findElements and the session's
+ * implicit wait applies, as before.
+ *
+ * Configuration (config.properties):
+ *   wait.implicit.zero=true            - Implicit wait 0, lookups through this engine
+ *   wait.negative.timeout.millis=0     - Time presence/display checks wait before answering false
+ */
+public class ElementLookup {
+    private static final Logger logger = LoggerFactory.getLogger(ElementLookup.class);
+    private static final long POLLING_MILLIS = 100;
+    private static final AtomicLong negativeChecks = new AtomicLong();
+    private static final AtomicLong negativeNanos = new AtomicLong();
+    private static final AtomicLong savedNanos = new AtomicLong();
+
+    /**
+     * Check if lookups run as explicit waits (wait.implicit.zero=true)
+     * @return true in zero-implicit-wait mode
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isZeroImplicitWait();
+    }
+
+    // ======================== LOOKUPS ========================
+
+    /**
+     * Find an element, waiting up to implicit.wait seconds
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return WebElement
+     * @throws NoSuchElementException if the element does not appear in time
+     */
+    public static WebElement find(WebDriver driver, By locator) {
+        return find(driver, locator, getLookupTimeoutMillis());
+    }
+
+    /**
+     * Find an element with a per-call timeout
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutMillis timeout in milliseconds (ignored without zero-implicit-wait mode)
+     * @return WebElement
+     * @throws NoSuchElementException if the element does not appear in time
+     */
+    public static WebElement find(WebDriver driver, By locator, long timeoutMillis) {
+        if (!isEnabled()) {
+            return driver.findElement(locator);
+        }
+        List<WebElement> elements = poll(driver, locator, timeoutMillis, false);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + locator
+                    + " (waited " + timeoutMillis + " ms)");
+        }
+        return elements.get(0);
+    }
+
+    /**
+     * Find all elements, waiting up to implicit.wait seconds for at least one
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return Elements, empty if none appeared
+     */
+    public static List<WebElement> findAll(WebDriver driver, By locator) {
+        return findAll(driver, locator, getLookupTimeoutMillis());
+    }
+
+    /**
+     * Find all elements with a per-call timeout
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutMillis time to wait for at least one element (ignored without zero-implicit-wait mode)
+     * @return Elements, empty if none appeared
+     */
+    public static List<WebElement> findAll(WebDriver driver, By locator, long timeoutMillis) {
+        if (!isEnabled()) {
+            return driver.findElements(locator);
+        }
+        return poll(driver, locator, timeoutMillis, false);
+    }
+
+    // ======================== NEGATIVE CHECKS ========================
+
+    /**
+     * Check if an element is present, waiting wait.negative.timeout.millis
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return true if the element is in the DOM
+     */
+    public static boolean isPresent(WebDriver driver, By locator) {
+        return isPresent(driver, locator, ConfigManager.getNegativeCheckTimeoutMillis());
+    }
+
+    /**
+     * Check if an element is present with a per-call timeout
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutMillis time to wait for the element (ignored without zero-implicit-wait mode)
+     * @return true if the element is in the DOM
+     */
+    public static boolean isPresent(WebDriver driver, By locator, long timeoutMillis) {
+        if (!isEnabled()) {
+            try {
+                driver.findElement(locator);
+                return true;
+            } catch (NoSuchElementException e) {
+                return false;
+            }
+        }
+        long start = System.nanoTime();
+        boolean present = !poll(driver, locator, timeoutMillis, false).isEmpty();
+        if (!present) {
+            recordNegative(start);
+        }
+        return present;
+    }
+
+    /**
+     * Check if an element is displayed, waiting wait.negative.timeout.millis
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return true if the first matching element is displayed
+     */
+    public static boolean isDisplayed(WebDriver driver, By locator) {
+        return isDisplayed(driver, locator, ConfigManager.getNegativeCheckTimeoutMillis());
+    }
+
+    /**
+     * Check if an element is displayed with a per-call timeout
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutMillis time to wait for the element to be displayed (ignored without zero-implicit-wait mode)
+     * @return true if the first matching element is displayed
+     */
+    public static boolean isDisplayed(WebDriver driver, By locator, long timeoutMillis) {
+        if (!isEnabled()) {
+            try {
+                return driver.findElement(locator).isDisplayed();
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        long start = System.nanoTime();
+        List<WebElement> elements = poll(driver, locator, timeoutMillis, true);
+        if (!elements.isEmpty()) {
+            return true;
+        }
+        // Only an absent element would have waited out the implicit wait; a hidden one answered at once
+        if (driver.findElements(locator).isEmpty()) {
+            recordNegative(start);
+        }
+        return false;
+    }
+
+    // ======================== REPORTING ========================
+
+    /**
+     * Get number of negative checks answered by the engine
+     * @return Presence/display checks that found no element
+     */
+    public static long getNegativeChecks() {
+        return negativeChecks.get();
+    }
+
+    /**
+     * Get wall-clock time saved on negative checks compared to the implicit wait
+     * @return Saved time in milliseconds
+     */
+    public static long getSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(savedNanos.get());
+    }
+
+    /**
+     * Get summary of the negative checks
+     * @return Summary line
+     */
+    public static String getSummary() {
+        return "Zero implicit wait: " + negativeChecks.get() + " negative checks took "
+                + TimeUnit.NANOSECONDS.toMillis(negativeNanos.get()) + " ms, saved " + getSavedMillis()
+                + " ms against an implicit wait of " + ConfigManager.getImplicitWait() + " s";
+    }
+
+    /**
+     * Reset the counters
+     */
+    public static void reset() {
+        negativeChecks.set(0);
+        negativeNanos.set(0);
+        savedNanos.set(0);
+    }
+
+    // ======================== INTERNALS ========================
+
+    private static long getLookupTimeoutMillis() {
+        return TimeUnit.SECONDS.toMillis(ConfigManager.getImplicitWait());
+    }
+
+    /**
+     * Poll findElements until a match (displayed, if requested) is found or the timeout passes
+     * The timeout is clamped to the remaining TestDeadline budget of the test.
+     * @return Matching elements, empty on timeout
+     * @throws TestDeadline.DeadlineExceededError if the budget ran out before the own timeout
+     */
+    private static List<WebElement> poll(WebDriver driver, By locator, long timeoutMillis, boolean displayed) {
+        long ownMillis = Math.max(0, timeoutMillis);
+        long clampedMillis = TestDeadline.timeoutMillis(ownMillis, locator.toString());
+        FluentWait<WebDriver> wait = new FluentWait<>(driver)
+                .withTimeout(Duration.ofMillis(clampedMillis))
+                .pollingEvery(Duration.ofMillis(POLLING_MILLIS))
+                .ignoring(StaleElementReferenceException.class);
+        try {
+            return wait.until(input -> {
+                List<WebElement> elements = input.findElements(locator);
+                if (elements.isEmpty() || (displayed && !elements.get(0).isDisplayed())) {
+                    return null;
+                }
+                return elements;
+            });
+        } catch (TimeoutException e) {
+            if (clampedMillis < ownMillis) {
+                throw TestDeadline.exceeded(locator.toString(), e);
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    private static void recordNegative(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        long implicit = TimeUnit.SECONDS.toNanos(ConfigManager.getImplicitWait());
+        negativeChecks.incrementAndGet();
+        negativeNanos.addAndGet(elapsed);
+        savedNanos.addAndGet(Math.max(0, implicit - elapsed));
+        logger.debug("Negative check answered in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+    }
+}
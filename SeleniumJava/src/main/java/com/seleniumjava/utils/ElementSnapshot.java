@@ -0,0 +1,323 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ElementSnapshot reads selected properties of all elements matching a locator in one script call
+ *
+ * Reading text, attributes, visibility and position element by element costs one or more round trips per
+ * element and property. A snapshot resolves the locator and reads every requested property of every match
+ * in a single executeScript call. Values are kept in one flat array (row = element, column = property).
+ *
+ * Values are read in the browser and approximate the WebElement calls:
+ *   text        - rendered innerText, trimmed ("" for hidden elements, like getText())
+ *   displayed   - not display:none / visibility:hidden / opacity 0 and with layout boxes
+ *   rect        - position in the document and size, like getRect()
+ *   attribute   - the DOM attribute (getDomAttribute(); use value() for the current input value)
+ * Locators the browser cannot resolve (see LocatorSelector) are found with findElements first,
+ * which costs one more round trip.
+ *
+ * Usage:
+ *   ElementSnapshot links = ElementSnapshot.of(driver, By.cssSelector("#results a"))
+ *           .text().displayed().attribute("href")
+ *           .take();
+ *   for (int i = 0; i < links.size(); i++) {
+ *       logger.info(links.getText(i) + " -> " + links.getAttribute(i, "href"));
+ *   }
+ */
+public class ElementSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ElementSnapshot.class);
+    private static final String RECT = "rect";
+    private static final int RECT_CELLS = 4;
+
+    private static final String SCRIPT =
+            LocatorSelector.JS_FUNCTIONS
+            + LocatorSelector.JS_FIND_ALL
+            + "var columns = arguments[2];"
+            + "var elements = arguments[0] ? findAll(arguments[0], arguments[1]) : arguments[3];"
+            + "var cells = [];"
+            + "elements.forEach(function(el) {"
+            + "  var visible = isVisible(el);"
+            + "  columns.forEach(function(column) {"
+            + "    switch (column) {"
+            + "      case 'text': cells.push(visible ? (el.innerText || '').trim() : ''); break;"
+            + "      case 'displayed': cells.push(visible); break;"
+            + "      case 'enabled': cells.push(!el.disabled); break;"
+            + "      case 'selected': cells.push(!!(el.checked || el.selected)); break;"
+            + "      case 'tag': cells.push(el.tagName.toLowerCase()); break;"
+            + "      case 'value': cells.push(el.value === undefined ? null : String(el.value)); break;"
+            + "      case 'element': cells.push(el); break;"
+            + "      case 'rect':"
+            + "        var r = el.getBoundingClientRect();"
+            + "        cells.push(Math.round(r.left + window.pageXOffset), Math.round(r.top + window.pageYOffset),"
+            + "            Math.round(r.width), Math.round(r.height));"
+            + "        break;"
+            + "      default: cells.push(el.getAttribute(column.substring(1)));"
+            + "    }"
+            + "  });"
+            + "});"
+            + "return [elements.length, cells];";
+
+    private final By locator;
+    private final int size;
+    private final int width;
+    private final Map<String, Integer> offsets;
+    private final Object[] cells;
+
+    /**
+     * Properties to read for a locator
+     */
+    public static class Query {
+        private final WebDriver driver;
+        private final By locator;
+        private final List<String> columns = new ArrayList<>();
+
+        private Query(WebDriver driver, By locator) {
+            this.driver = driver;
+            this.locator = locator;
+        }
+
+        /** Read the visible text */
+        public Query text() {
+            return column("text");
+        }
+
+        /** Read whether the elements are displayed */
+        public Query displayed() {
+            return column("displayed");
+        }
+
+        /** Read whether the elements are enabled */
+        public Query enabled() {
+            return column("enabled");
+        }
+
+        /** Read whether checkboxes, radio buttons and options are selected */
+        public Query selected() {
+            return column("selected");
+        }
+
+        /** Read the tag name */
+        public Query tagName() {
+            return column("tag");
+        }
+
+        /** Read the current value of inputs */
+        public Query value() {
+            return column("value");
+        }
+
+        /** Read position and size */
+        public Query rect() {
+            return column(RECT);
+        }
+
+        /** Keep the WebElements, e.g. to click one of the matches */
+        public Query elements() {
+            return column("element");
+        }
+
+        /**
+         * Read an attribute
+         * @param name attribute name
+         * @return This query
+         */
+        public Query attribute(String name) {
+            return column("@" + name);
+        }
+
+        /**
+         * Run the query
+         * @return Snapshot of all matching elements, empty if none match
+         */
+        public ElementSnapshot take() {
+            LocatorSelector selector = LocatorSelector.from(locator);
+            List<WebElement> found = selector == null ? driver.findElements(locator) : null;
+            List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(SCRIPT,
+                    selector == null ? null : selector.getStrategy(), selector == null ? null : selector.getValue(),
+                    columns, found);
+            int size = ((Number) result.get(0)).intValue();
+            ElementSnapshot snapshot = new ElementSnapshot(locator, size, columns, ((List<?>) result.get(1)).toArray());
+            logger.debug("Snapshot of " + size + " elements " + columns + ": " + locator);
+            return snapshot;
+        }
+
+        private Query column(String column) {
+            if (!columns.contains(column)) {
+                columns.add(column);
+            }
+            return this;
+        }
+    }
+
+    private ElementSnapshot(By locator, int size, List<String> columns, Object[] cells) {
+        this.locator = locator;
+        this.size = size;
+        this.offsets = new HashMap<>();
+        int offset = 0;
+        for (String column : columns) {
+            offsets.put(column, offset);
+            offset += column.equals(RECT) ? RECT_CELLS : 1;
+        }
+        this.width = offset;
+        this.cells = cells;
+    }
+
+    /**
+     * Start a snapshot query
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return Query to select the properties on
+     */
+    public static Query of(WebDriver driver, By locator) {
+        return new Query(driver, locator);
+    }
+
+    /**
+     * Get number of matching elements
+     * @return Number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    // ======================== ROW VALUES ========================
+
+    public String getText(int index) {
+        return (String) cell(index, "text");
+    }
+
+    public boolean isDisplayed(int index) {
+        return Boolean.TRUE.equals(cell(index, "displayed"));
+    }
+
+    public boolean isEnabled(int index) {
+        return Boolean.TRUE.equals(cell(index, "enabled"));
+    }
+
+    public boolean isSelected(int index) {
+        return Boolean.TRUE.equals(cell(index, "selected"));
+    }
+
+    public String getTagName(int index) {
+        return (String) cell(index, "tag");
+    }
+
+    public String getValue(int index) {
+        return (String) cell(index, "value");
+    }
+
+    public WebElement getElement(int index) {
+        return (WebElement) cell(index, "element");
+    }
+
+    /**
+     * Get an attribute of an element
+     * @param index element index
+     * @param name attribute name, must have been requested
+     * @return Attribute value, null if the element does not have it
+     */
+    public String getAttribute(int index, String name) {
+        return (String) cell(index, "@" + name);
+    }
+
+    /**
+     * Get position in the document and size of an element
+     * @param index element index
+     * @return Rectangle
+     */
+    public Rectangle getRect(int index) {
+        checkIndex(index);
+        int base = index * width + offset(RECT);
+        return new Rectangle(intCell(base), intCell(base + 1), intCell(base + 3), intCell(base + 2));
+    }
+
+    // ======================== COLUMN VALUES ========================
+
+    public List<String> getTexts() {
+        return column("text");
+    }
+
+    public List<String> getAttributes(String name) {
+        return column("@" + name);
+    }
+
+    public List<String> getValues() {
+        return column("value");
+    }
+
+    public List<WebElement> getElements() {
+        return column("element");
+    }
+
+    /**
+     * Count the displayed elements
+     * @return Number of displayed elements
+     */
+    public int getDisplayedCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (isDisplayed(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot[" + locator + ", " + size + " elements, columns " + offsets.keySet() + "]";
+    }
+
+    private Object cell(int index, String column) {
+        checkIndex(index);
+        return cells[index * width + offset(column)];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Element " + index + " of " + size + ": " + locator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> column(String column) {
+        int offset = offset(column);
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add((T) cells[i * width + offset]);
+        }
+        return values;
+    }
+
+    private int offset(String column) {
+        Integer offset = offsets.get(column);
+        if (offset == null) {
+            throw new IllegalStateException("Property " + column.replace("@", "attribute ")
+                    + " was not part of the snapshot of " + locator);
+        }
+        return offset;
+    }
+
+    private int intCell(int position) {
+        return ((Number) cells[position]).intValue();
+    }
+}
@@ -60,7 +60,7 @@ public class FrameSwitchingUtils {
      */
     public static void switchToFrameByLocator(WebDriver driver, By frameLocator) {
         try {
-            WebElement frameElement = driver.findElement(frameLocator);
+            WebElement frameElement = ElementLookup.find(driver, frameLocator);
             driver.switchTo().frame(frameElement);
             System.out.println("Switched to frame by locator");
         } catch (Exception e) {
@@ -144,13 +144,13 @@ public class FrameSwitchingUtils {
     public static boolean isElementInFrame(WebDriver driver, By elementLocator, By frameLocator) {
         try {
             driver.switchTo().defaultContent();
-            WebElement iframe = driver.findElement(frameLocator);
+            WebElement iframe = ElementLookup.find(driver, frameLocator);
             driver.switchTo().frame(iframe);
             
-            WebElement element = driver.findElement(elementLocator);
+            boolean present = ElementLookup.isPresent(driver, elementLocator);
             driver.switchTo().defaultContent();
             
-            return element != null;
+            return present;
         } catch (Exception e) {
             driver.switchTo().defaultContent();
             return false;
@@ -171,13 +171,11 @@ public class FrameSwitchingUtils {
             for (int i = 0; i < frames.size(); i++) {
                 driver.switchTo().frame(i);
                 
-                try {
-                    driver.findElement(elementLocator);
+                boolean present = ElementLookup.isPresent(driver, elementLocator);
+                driver.switchTo().defaultContent();
+                if (present) {
                     System.out.println("Element found in frame: " + i);
-                    driver.switchTo().defaultContent();
                     return i;
-                } catch (NoSuchElementException e) {
-                    driver.switchTo().defaultContent();
                 }
             }
             
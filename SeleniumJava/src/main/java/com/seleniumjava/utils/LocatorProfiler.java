@@ -0,0 +1,455 @@
+package com.seleniumjava.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * LocatorProfiler times the locators of every page object and finds faster equivalents for slow ones
+ *
+ * BasePage.findElement/findElements run through profile(): each lookup is timed per page object and locator.
+ * The first time an XPath locator finds elements, one script measures its query time in the browser together
+ * with CSS candidates (see XPathToCss) and verifies that a candidate returns exactly the same elements in the
+ * same order. The fastest verified candidate becomes the proposal. Link text locators are flagged as slow,
+ * they have no CSS equivalent.
+ *
+ * With locator.profile.optimize=true lookups use the fastest verified exact translation (#id, [attr="v"],
+ * *=, ^=, :nth-of-type) when it is at least MIN_SPEEDUP times faster than the original locator. Class
+ * shorthands (.g for [@class='g']) are only reported: verification covers one page state, and an element
+ * with further classes would match .g but not the XPath. A replacement that stops finding the element is
+ * dropped and the lookup repeated with the original locator.
+ *
+ * writeReport() stores the locators of every page object ranked by total lookup time as JSON, getReport()
+ * returns the same as text.
+ *
+ * Configuration (config.properties):
+ *   locator.profile.enabled=false                           - Time lookups and look for faster locators
+ *   locator.profile.optimize=false                          - Use verified faster locators transparently
+ *   locator.profile.path=test-results/locator-profile.json  - Report written at the end of the run
+ */
+public class LocatorProfiler {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorProfiler.class);
+    private static final double MIN_SPEEDUP = 1.2;
+    private static final int ITERATIONS = 25;
+    // Page object -> locator -> stats
+    private static final Map<String, Map<String, LocatorStats>> pages = new ConcurrentHashMap<>();
+
+    private static final String MEASURE_SCRIPT =
+            LocatorSelector.JS_FIND_ALL
+            + "var iterations = arguments[2];"
+            + "function measure(strategy, value) {"
+            + "  var found = findAll(strategy, value);"
+            + "  var start = performance.now();"
+            + "  for (var i = 0; i < iterations; i++) findAll(strategy, value);"
+            + "  return {micros: (performance.now() - start) * 1000 / iterations, found: found};"
+            + "}"
+            + "var original = measure(arguments[0], arguments[1]);"
+            + "if (!original.found.length) return null;"
+            + "var candidates = arguments[3].map(function(css) {"
+            + "  try {"
+            + "    var candidate = measure('cssSelector', css);"
+            + "    var same = candidate.found.length === original.found.length"
+            + "        && candidate.found.every(function(el, i) { return el === original.found[i]; });"
+            + "    return [candidate.micros, same];"
+            + "  } catch (e) { return [-1, false]; }"
+            + "});"
+            + "return [original.micros, original.found.length, candidates];";
+
+    /**
+     * Lookups of one locator on one page object
+     */
+    public static class LocatorStats {
+        private final String page;
+        private final By locator;
+        private final String strategy;
+        private long lookups;
+        private long totalNanos;
+        private long maxNanos;
+        private boolean measured;
+        private double browserMicros = -1;
+        private By proposal;
+        private double proposalMicros = -1;
+        private boolean proposalExact;
+        // Fastest verified exact translation: the only kind optimize mode uses
+        private By replacement;
+        private double replacementMicros = -1;
+        private boolean applied;
+
+        private LocatorStats(String page, By locator) {
+            this.page = page;
+            this.locator = locator;
+            LocatorSelector selector = LocatorSelector.from(locator);
+            this.strategy = selector == null ? locator.getClass().getSimpleName() : selector.getStrategy();
+        }
+
+        private synchronized void record(long nanos) {
+            lookups++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public synchronized long getLookups() {
+            return lookups;
+        }
+
+        public synchronized long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        }
+
+        public synchronized double getAverageMillis() {
+            return lookups == 0 ? 0 : totalNanos / 1e6 / lookups;
+        }
+
+        public synchronized long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+        }
+
+        /**
+         * Get query time of the locator in the browser
+         * @return Microseconds per query, -1 if not measured
+         */
+        public synchronized double getBrowserMicros() {
+            return browserMicros;
+        }
+
+        /**
+         * Get the verified faster locator
+         * @return Proposal, null if none was found
+         */
+        public synchronized By getProposal() {
+            return proposal;
+        }
+
+        public synchronized double getProposalMicros() {
+            return proposalMicros;
+        }
+
+        /**
+         * Check if the proposal is an exact translation (not a class shorthand)
+         * @return true if the proposal matches the same elements on every page state
+         */
+        public synchronized boolean isProposalExact() {
+            return proposalExact;
+        }
+
+        /**
+         * Get the exact translation optimize mode may use
+         * @return Replacement, null if none was verified
+         */
+        public synchronized By getReplacement() {
+            return replacement;
+        }
+
+        /**
+         * Get how much faster the proposal queries in the browser
+         * @return Original time / proposal time, 0 without proposal
+         */
+        public synchronized double getSpeedup() {
+            return proposal == null || proposalMicros <= 0 ? 0 : browserMicros / proposalMicros;
+        }
+
+        /**
+         * Check if the strategy is known to be slow (XPath, link text) or a faster locator was found
+         * @return true if the locator should be looked at
+         */
+        public synchronized boolean isSlow() {
+            return proposal != null || strategy.equals("xpath") || strategy.endsWith("inkText");
+        }
+
+        public synchronized boolean isApplied() {
+            return applied;
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("locator", locator.toString());
+            map.put("strategy", strategy);
+            map.put("lookups", lookups);
+            map.put("totalMillis", getTotalMillis());
+            map.put("averageMillis", Math.round(getAverageMillis() * 100) / 100.0);
+            map.put("maxMillis", getMaxMillis());
+            map.put("slow", isSlow());
+            if (browserMicros >= 0) {
+                map.put("browserMicros", Math.round(browserMicros * 10) / 10.0);
+            }
+            if (proposal != null) {
+                map.put("proposal", proposal.toString());
+                map.put("proposalMicros", Math.round(proposalMicros * 10) / 10.0);
+                map.put("speedup", Math.round(getSpeedup() * 10) / 10.0);
+                map.put("exact", proposalExact);
+            }
+            if (replacement != null) {
+                map.put("replacement", replacement.toString());
+                map.put("applied", applied);
+            }
+            return map;
+        }
+
+        @Override
+        public synchronized String toString() {
+            String line = String.format("%6d ms %5d x %-9s %s", getTotalMillis(), lookups, strategy, locator);
+            if (proposal != null) {
+                line += String.format("  -> %s (%.1fx faster%s)", proposal, getSpeedup(),
+                        proposalExact ? "" : ", class shorthand: check before using");
+                if (applied) {
+                    line += "  applied: " + replacement;
+                }
+            } else if (isSlow()) {
+                line += "  (slow strategy, no verified CSS equivalent)";
+            }
+            return line;
+        }
+    }
+
+    /**
+     * Check if lookups are profiled (locator.profile.enabled=true)
+     * @return true if the locator profiler is enabled
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isLocatorProfileEnabled();
+    }
+
+    /**
+     * Run and time a lookup of a page object
+     * @param driver WebDriver instance
+     * @param page page object class
+     * @param locator locator of the page object
+     * @param lookup the lookup, e.g. locator -> ElementLookup.find(driver, locator)
+     * @return Result of the lookup
+     */
+    public static <T> T profile(WebDriver driver, Class<?> page, By locator, Function<By, T> lookup) {
+        LocatorStats stats = pages.computeIfAbsent(page.getSimpleName(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(locator.toString(), key -> new LocatorStats(page.getSimpleName(), locator));
+        By effective = locator;
+        if (ConfigManager.isLocatorOptimize()) {
+            synchronized (stats) {
+                if (stats.applied) {
+                    effective = stats.replacement;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = lookup.apply(effective);
+        } catch (NoSuchElementException e) {
+            if (effective == locator) {
+                stats.record(System.nanoTime() - start);
+                throw e;
+            }
+            reject(stats, effective, locator);
+            result = lookup.apply(locator);
+        }
+        if (effective != locator && result instanceof Collection && ((Collection<?>) result).isEmpty()) {
+            // findElements does not throw: an empty result from a proposal is treated the same way
+            reject(stats, effective, locator);
+            result = lookup.apply(locator);
+        }
+        stats.record(System.nanoTime() - start);
+        if (!stats.measured && stats.strategy.equals("xpath") && driver instanceof JavascriptExecutor) {
+            measure(driver, stats);
+        }
+        return result;
+    }
+
+    /**
+     * The replacement no longer matches on this page: back to the original locator for good
+     */
+    private static void reject(LocatorStats stats, By replacement, By locator) {
+        logger.warn("Optimized locator " + replacement + " found nothing, using " + locator + " again");
+        synchronized (stats) {
+            stats.applied = false;
+            stats.replacement = null;
+            if (replacement.equals(stats.proposal)) {
+                stats.proposal = null;
+            }
+        }
+    }
+
+    /**
+     * Measure a locator and its CSS candidates in the browser and keep the fastest verified one
+     */
+    private static void measure(WebDriver driver, LocatorStats stats) {
+        LocatorSelector selector = LocatorSelector.from(stats.locator);
+        List<String> candidates = new ArrayList<>();
+        String exact = XPathToCss.translate(selector.getValue(), false);
+        if (exact != null) {
+            String shorthand = XPathToCss.translate(selector.getValue(), true);
+            if (shorthand != null && !shorthand.equals(exact)) {
+                candidates.add(shorthand);
+            }
+            candidates.add(exact);
+        }
+        List<?> result;
+        try {
+            result = (List<?>) ((JavascriptExecutor) driver).executeScript(MEASURE_SCRIPT, selector.getStrategy(),
+                    selector.getValue(), ITERATIONS, candidates);
+        } catch (WebDriverException e) {
+            // Not retried: a failing script would otherwise run on every lookup
+            logger.debug("Could not measure " + stats.locator + ": " + e.getMessage());
+            synchronized (stats) {
+                stats.measured = true;
+            }
+            return;
+        }
+        if (result == null) {
+            // Nothing matched right now, nothing to verify against: try on the next lookup
+            return;
+        }
+        synchronized (stats) {
+            stats.measured = true;
+            stats.browserMicros = ((Number) result.get(0)).doubleValue();
+            List<?> measured = (List<?>) result.get(2);
+            for (int i = 0; i < candidates.size(); i++) {
+                List<?> candidate = (List<?>) measured.get(i);
+                double micros = ((Number) candidate.get(0)).doubleValue();
+                boolean same = Boolean.TRUE.equals(candidate.get(1));
+                if (!same || micros < 0 || micros >= stats.browserMicros) {
+                    continue;
+                }
+                boolean isExact = candidates.get(i).equals(exact);
+                if (stats.proposal == null || micros < stats.proposalMicros) {
+                    stats.proposal = By.cssSelector(candidates.get(i));
+                    stats.proposalMicros = micros;
+                    stats.proposalExact = isExact;
+                }
+                if (isExact) {
+                    stats.replacement = By.cssSelector(candidates.get(i));
+                    stats.replacementMicros = micros;
+                }
+            }
+            stats.applied = ConfigManager.isLocatorOptimize() && stats.replacement != null
+                    && stats.browserMicros / stats.replacementMicros >= MIN_SPEEDUP;
+            if (stats.proposal != null) {
+                logger.info(stats.page + ": " + stats.locator + " -> " + stats.proposal + String.format(" (%.1fx faster%s)",
+                        stats.getSpeedup(), stats.proposalExact ? "" : ", class shorthand")
+                        + (stats.applied ? ", applied " + stats.replacement : ""));
+            }
+        }
+    }
+
+    // ======================== REPORTING ========================
+
+    /**
+     * Get the stats of all profiled locators
+     * @return Page object name -> locators ranked by total lookup time
+     */
+    public static Map<String, List<LocatorStats>> getStats() {
+        Map<String, List<LocatorStats>> ranked = new TreeMap<>();
+        for (Map.Entry<String, Map<String, LocatorStats>> page : pages.entrySet()) {
+            ranked.put(page.getKey(), rank(page.getValue().values()));
+        }
+        return ranked;
+    }
+
+    /**
+     * Get number of profiled locators
+     * @return Locators over all page objects
+     */
+    public static int getLocatorCount() {
+        int count = 0;
+        for (Map<String, LocatorStats> locators : pages.values()) {
+            count += locators.size();
+        }
+        return count;
+    }
+
+    /**
+     * Get the ranked report as text
+     * @param rows locators listed per page object
+     * @return Report text
+     */
+    public static String getReport(int rows) {
+        StringBuilder report = new StringBuilder("Locators by page object (total lookup time):\n");
+        for (Map.Entry<String, List<LocatorStats>> page : getStats().entrySet()) {
+            report.append("  ").append(page.getKey()).append('\n');
+            List<LocatorStats> locators = page.getValue();
+            for (LocatorStats stats : locators.subList(0, Math.min(rows, locators.size()))) {
+                report.append("    ").append(stats).append('\n');
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Write the report as JSON to locator.profile.path
+     * @return Written file, null if nothing was profiled or writing failed
+     */
+    public static Path writeReport() {
+        if (pages.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, List<LocatorStats>> page : getStats().entrySet()) {
+            List<Map<String, Object>> locators = new ArrayList<>();
+            for (LocatorStats stats : page.getValue()) {
+                locators.add(stats.toMap());
+            }
+            report.put(page.getKey(), locators);
+        }
+
+        Path path = Paths.get(ConfigManager.getLocatorProfilePath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                gson.toJson(report, writer);
+            }
+            logger.info("Locator profile written to " + path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            logger.warn("Could not write locator profile: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Forget all profiled locators
+     */
+    public static void reset() {
+        pages.clear();
+    }
+
+    private static List<LocatorStats> rank(Collection<LocatorStats> locators) {
+        List<LocatorStats> ranked = new ArrayList<>(locators);
+        ranked.sort(Comparator.comparingLong(LocatorStats::getTotalMillis).reversed()
+                .thenComparing(stats -> stats.getLocator().toString()));
+        return ranked;
+    }
+}
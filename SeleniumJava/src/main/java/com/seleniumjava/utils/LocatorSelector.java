@@ -0,0 +1,168 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+
+/**
+ * LocatorSelector turns a Selenium By into a strategy/value pair that browser-side scripts can resolve
+ *
+ * Parsed from By.toString(), e.g. "By.id: login" -> (id, login), "By.xpath: //a" -> (xpath, //a).
+ * Supported strategies: id, name, className, tagName, cssSelector, xpath, linkText, partialLinkText.
+ * Other locators (ByChained, ByAll, custom By classes) are not supported and return null.
+ */
+public final class LocatorSelector {
+    private static final String[] STRATEGIES = {
+            "id", "name", "className", "tagName", "cssSelector", "xpath", "linkText", "partialLinkText"
+    };
+
+    /**
+     * Browser-side helpers shared by the injected wait scripts:
+     * findElement(strategy, value) resolves a LocatorSelector, isVisible(el) approximates isDisplayed()
+     */
+    static final String JS_FUNCTIONS =
+            "function findElement(strategy, value) {"
+            + "  switch (strategy) {"
+            + "    case 'id': return document.getElementById(value);"
+            + "    case 'name': return document.getElementsByName(value)[0] || null;"
+            + "    case 'className': return document.getElementsByClassName(value)[0] || null;"
+            + "    case 'tagName': return document.getElementsByTagName(value)[0] || null;"
+            + "    case 'cssSelector': return document.querySelector(value);"
+            + "    case 'xpath': return document.evaluate(value, document, null,"
+            + "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "    default:"
+            + "      var links = document.getElementsByTagName('a');"
+            + "      for (var i = 0; i < links.length; i++) {"
+            + "        var text = (links[i].innerText || links[i].textContent || '').trim();"
+            + "        if (strategy === 'linkText' ? text === value : text.indexOf(value) >= 0) return links[i];"
+            + "      }"
+            + "      return null;"
+            + "  }"
+            + "}"
+            + "function isVisible(el) {"
+            + "  if (!el.isConnected || !el.getClientRects().length) return false;"
+            + "  var style = window.getComputedStyle(el);"
+            + "  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';"
+            + "}";
+
+    /**
+     * Browser-side findAll(strategy, value): every element a LocatorSelector matches, in document order
+     */
+    static final String JS_FIND_ALL =
+            "function findAll(strategy, value) {"
+            + "  var list;"
+            + "  switch (strategy) {"
+            + "    case 'id': list = document.querySelectorAll('[id=\"' + value.replace(/[\"\\\\]/g, '\\\\$&') + '\"]'); break;"
+            + "    case 'name': list = document.getElementsByName(value); break;"
+            + "    case 'className': list = document.getElementsByClassName(value); break;"
+            + "    case 'tagName': list = document.getElementsByTagName(value); break;"
+            + "    case 'cssSelector': list = document.querySelectorAll(value); break;"
+            + "    case 'xpath':"
+            + "      var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var nodes = [];"
+            + "      for (var i = 0; i < result.snapshotLength; i++) {"
+            + "        if (result.snapshotItem(i).nodeType === 1) nodes.push(result.snapshotItem(i));"
+            + "      }"
+            + "      return nodes;"
+            + "    default:"
+            + "      return Array.prototype.filter.call(document.getElementsByTagName('a'), function(a) {"
+            + "        var text = (a.innerText || a.textContent || '').trim();"
+            + "        return strategy === 'linkText' ? text === value : text.indexOf(value) >= 0;"
+            + "      });"
+            + "  }"
+            + "  return Array.prototype.slice.call(list);"
+            + "}";
+
+    private final String strategy;
+    private final String value;
+
+    private LocatorSelector(String strategy, String value) {
+        this.strategy = strategy;
+        this.value = value;
+    }
+
+    /**
+     * Parse a locator
+     * @param locator By locator
+     * @return Parsed selector, or null if the locator type is not supported
+     */
+    public static LocatorSelector from(By locator) {
+        if (locator == null) {
+            return null;
+        }
+        String text = locator.toString();
+        for (String strategy : STRATEGIES) {
+            String prefix = "By." + strategy + ": ";
+            if (text.startsWith(prefix)) {
+                return new LocatorSelector(strategy, text.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the locator strategy
+     * @return Strategy name as used by By (id, cssSelector, xpath, ...)
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Get the locator value
+     * @return Id, selector, expression or link text
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Check if the locator is an XPath expression
+     * @return true for xpath locators
+     */
+    public boolean isXPath() {
+        return strategy.equals("xpath");
+    }
+
+    /**
+     * Get an equivalent CSS selector
+     * @return CSS selector, or null for xpath and link text locators
+     */
+    public String toCss() {
+        switch (strategy) {
+            case "id":
+                return "#" + escapeIdentifier(value);
+            case "className":
+                return "." + escapeIdentifier(value);
+            case "name":
+                return "[name=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+            case "tagName":
+            case "cssSelector":
+                return value;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return strategy + "=" + value;
+    }
+
+    /**
+     * Escape a CSS identifier (simplified CSS.escape for ids and class names)
+     */
+    private static String escapeIdentifier(String identifier) {
+        StringBuilder escaped = new StringBuilder(identifier.length() + 4);
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            boolean leadingDigit = i == 0 && Character.isDigit(c);
+            if (leadingDigit) {
+                escaped.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else if (Character.isLetterOrDigit(c) || c == '-' || c == '_' || c > 0x7F) {
+                escaped.append(c);
+            } else {
+                escaped.append('\\').append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
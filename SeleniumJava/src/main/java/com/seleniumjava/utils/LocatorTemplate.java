@@ -0,0 +1,278 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LocatorTemplate is an XPath or CSS template with {0}, {1}, ... placeholders, parsed once
+ *
+ * The template is split into literal segments and slots when it is created, so filling it in is a single
+ * StringBuilder pass. By instances are cached per value combination in a bounded LRU cache, so
+ * data-driven loops over a limited set of values build each locator string and By only once; a lookup
+ * still allocates the varargs array and, for several values, a copied key.
+ *
+ * A slot written inside quotes is escaped for its language:
+ *   XPath '{0}'   - the value becomes an XPath literal ('..', ".." or concat(..) if it has both quotes)
+ *   CSS   '{0}'   - quotes and backslashes in the value are escaped
+ * Slots outside quotes are inserted as they are.
+ *
+ * Usage (keep templates in static constants):
+ *   private static final LocatorTemplate ROW_BUTTON =
+ *           LocatorTemplate.xpath("//tr[td[1]='{0}']//button[text()='{1}']");
+ *   click(ROW_BUTTON.by("O'Brien", "Edit"));
+ */
+public final class LocatorTemplate {
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    /**
+     * Locator language of a template
+     */
+    public enum Kind {
+        XPATH, CSS
+    }
+
+    private final Kind kind;
+    private final String template;
+    // literals.length == slots.length + 1: literal, slot, literal, ..., literal
+    private final String[] literals;
+    private final int[] slots;
+    private final char[] quotes;
+    private final int literalLength;
+    private final int arity;
+    private final Map<Object, By> cache;
+    private long hits;
+    private long misses;
+
+    private LocatorTemplate(Kind kind, String template, int cacheSize) {
+        this.kind = kind;
+        this.template = template;
+        List<String> literalList = new ArrayList<>();
+        List<int[]> slotList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int maxSlot = -1;
+        int i = 0;
+        while (i < template.length()) {
+            int close = template.charAt(i) == '{' ? template.indexOf('}', i) : -1;
+            int slot = close > i + 1 ? parseSlot(template, i + 1, close) : -1;
+            if (slot < 0) {
+                literal.append(template.charAt(i++));
+                continue;
+            }
+            // A slot between matching quotes takes the quotes over and escapes its value
+            char quote = 0;
+            int length = literal.length();
+            if (length > 0 && close + 1 < template.length()) {
+                char before = literal.charAt(length - 1);
+                if ((before == '\'' || before == '"') && template.charAt(close + 1) == before) {
+                    quote = before;
+                    literal.setLength(length - 1);
+                    close++;
+                }
+            }
+            literalList.add(literal.toString());
+            literal.setLength(0);
+            slotList.add(new int[]{slot, quote});
+            maxSlot = Math.max(maxSlot, slot);
+            i = close + 1;
+        }
+        literalList.add(literal.toString());
+        this.literals = literalList.toArray(new String[0]);
+        this.slots = new int[slotList.size()];
+        this.quotes = new char[slotList.size()];
+        int total = 0;
+        for (int s = 0; s < slots.length; s++) {
+            slots[s] = slotList.get(s)[0];
+            quotes[s] = (char) slotList.get(s)[1];
+        }
+        for (String part : literals) {
+            total += part.length();
+        }
+        this.literalLength = total;
+        this.arity = maxSlot + 1;
+        this.cache = new LinkedHashMap<Object, By>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, By> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Compile an XPath template
+     * @param template XPath with {0}, {1}, ... placeholders
+     * @return Compiled template
+     */
+    public static LocatorTemplate xpath(String template) {
+        return new LocatorTemplate(Kind.XPATH, template, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Compile a CSS selector template
+     * @param template CSS selector with {0}, {1}, ... placeholders
+     * @return Compiled template
+     */
+    public static LocatorTemplate css(String template) {
+        return new LocatorTemplate(Kind.CSS, template, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Compile a template with its own cache size
+     * @param kind locator language
+     * @param template template with {0}, {1}, ... placeholders
+     * @param cacheSize number of By instances kept (0 = no caching)
+     * @return Compiled template
+     */
+    public static LocatorTemplate compile(Kind kind, String template, int cacheSize) {
+        return new LocatorTemplate(kind, template, cacheSize);
+    }
+
+    /**
+     * Fill in the template
+     * @param values placeholder values
+     * @return XPath or CSS selector
+     * @throws IllegalArgumentException if fewer values than placeholders are given
+     */
+    public String format(String... values) {
+        if (values.length < arity) {
+            throw new IllegalArgumentException("Template needs " + arity + " values, got " + values.length
+                    + ": " + template);
+        }
+        int capacity = literalLength;
+        for (int s = 0; s < slots.length; s++) {
+            capacity += values[slots[s]].length() + (quotes[s] != 0 ? 2 : 0);
+        }
+        StringBuilder locator = new StringBuilder(capacity);
+        for (int s = 0; s < slots.length; s++) {
+            locator.append(literals[s]);
+            String value = values[slots[s]];
+            if (quotes[s] == 0) {
+                locator.append(value);
+            } else if (kind == Kind.XPATH) {
+                appendXPathLiteral(locator, value, quotes[s]);
+            } else {
+                appendCssString(locator, value, quotes[s]);
+            }
+        }
+        return locator.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Get the locator for a value combination, cached
+     * @param values placeholder values
+     * @return By locator
+     * @throws IllegalArgumentException if fewer values than placeholders are given
+     */
+    public By by(String... values) {
+        // One value is its own key; several values are copied so later changes to the array do no harm
+        Object key = values.length == 1 ? values[0] : Arrays.asList(values.clone());
+        synchronized (cache) {
+            By cached = cache.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        String locator = format(values);
+        By by = kind == Kind.XPATH ? By.xpath(locator) : By.cssSelector(locator);
+        synchronized (cache) {
+            cache.put(key, by);
+        }
+        return by;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get number of values the template needs
+     * @return Highest placeholder index + 1
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return kind.name().toLowerCase() + " template " + template;
+    }
+
+    /**
+     * Append a value as XPath string literal, preferring the quote the template used
+     * Scans the value once for both quote characters.
+     */
+    static void appendXPathLiteral(StringBuilder target, String value, char preferred) {
+        boolean single = false;
+        boolean dbl = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'') {
+                single = true;
+            } else if (c == '"') {
+                dbl = true;
+            }
+        }
+        if (!single && (preferred == '\'' || dbl)) {
+            target.append('\'').append(value).append('\'');
+        } else if (!dbl) {
+            target.append('"').append(value).append('"');
+        } else {
+            // Both quotes: concat('it', "'", 's "quoted"')
+            target.append("concat('");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\'') {
+                    target.append("', \"'\", '");
+                } else {
+                    target.append(c);
+                }
+            }
+            target.append("')");
+        }
+    }
+
+    static void appendCssString(StringBuilder target, String value, char quote) {
+        target.append(quote);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == quote || c == '\\') {
+                target.append('\\');
+            }
+            target.append(c);
+        }
+        target.append(quote);
+    }
+
+    private static int parseSlot(String template, int start, int end) {
+        int slot = 0;
+        for (int i = start; i < end; i++) {
+            char c = template.charAt(i);
+            if (c < '0' || c > '9' || slot > 999) {
+                return -1;
+            }
+            slot = slot * 10 + (c - '0');
+        }
+        return slot;
+    }
+}
@@ -2,10 +2,13 @@ package com.seleniumjava.utils;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Mouse Actions Utility Class
  * Handles mouse events: hover, click, drag-drop, double-click, etc.
+ * Element actions wait for the element to settle first (SettledWait, wait.settle.enabled)
  */
 public class MouseActionsUtils {
     
@@ -16,6 +19,7 @@ public class MouseActionsUtils {
      */
     public static void hoverElement(WebDriver driver, WebElement element) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.moveToElement(element).build().perform();
             System.out.println("Hovered over element");
@@ -32,6 +36,7 @@ public class MouseActionsUtils {
      */
     public static void doubleClick(WebDriver driver, WebElement element) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.doubleClick(element).build().perform();
             System.out.println("Double-clicked element");
@@ -48,6 +53,7 @@ public class MouseActionsUtils {
      */
     public static void rightClick(WebDriver driver, WebElement element) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.contextClick(element).build().perform();
             System.out.println("Right-clicked element");
@@ -65,6 +71,8 @@ public class MouseActionsUtils {
      */
     public static void dragAndDrop(WebDriver driver, WebElement source, WebElement target) {
         try {
+            SettledWait.settleIfEnabled(driver, source);
+            SettledWait.settleIfEnabled(driver, target);
             Actions actions = new Actions(driver);
             actions.dragAndDrop(source, target).build().perform();
             System.out.println("Dragged and dropped element");
@@ -83,6 +91,7 @@ public class MouseActionsUtils {
      */
     public static void dragByOffset(WebDriver driver, WebElement element, int xOffset, int yOffset) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.dragAndDropBy(element, xOffset, yOffset).build().perform();
             System.out.println("Dragged element by offset: x=" + xOffset + ", y=" + yOffset);
@@ -99,6 +108,7 @@ public class MouseActionsUtils {
      */
     public static void moveToElement(WebDriver driver, WebElement element) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.moveToElement(element).build().perform();
             System.out.println("Moved to element");
@@ -132,6 +142,7 @@ public class MouseActionsUtils {
      */
     public static void clickAndHold(WebDriver driver, WebElement element) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.clickAndHold(element).build().perform();
             System.out.println("Clicked and held element");
@@ -257,6 +268,22 @@ public class MouseActionsUtils {
         }
     }
     
+    /**
+     * Get position and size of all elements matching a locator in one script call
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @return Rectangles (x, y, width, height) of the matching elements
+     */
+    public static List<Rectangle> getElementRects(WebDriver driver, By locator) {
+        ElementSnapshot snapshot = ElementSnapshot.of(driver, locator).rect().take();
+        List<Rectangle> rects = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            rects.add(snapshot.getRect(i));
+        }
+        System.out.println("Got rectangles of " + rects.size() + " elements");
+        return rects;
+    }
+    
     /**
      * Slow down mouse movements
      * @param driver WebDriver instance
@@ -265,6 +292,7 @@ public class MouseActionsUtils {
      */
     public static void slowMoveToElement(WebDriver driver, WebElement element, long duration) {
         try {
+            SettledWait.settleIfEnabled(driver, element);
             Actions actions = new Actions(driver);
             actions.moveToElement(element)
                    .pause(duration)
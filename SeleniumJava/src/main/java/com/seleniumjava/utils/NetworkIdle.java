@@ -0,0 +1,132 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * NetworkIdle tracks in-flight fetch/XHR requests in the page and waits until the network is quiet
+ *
+ * An injected tracker wraps window.fetch and XMLHttpRequest.send and counts running requests.
+ * The page counts as idle when no request is running and none started or finished during the quiet period.
+ * This replaces guessed sleeps after actions that load data in single page applications.
+ *
+ * The tracker is installed on the first wait of every document, so requests started before that are not
+ * seen. With wait.network.tracker=true it is registered at session start (DevTools
+ * Page.addScriptToEvaluateOnNewDocument, Chrome only) and runs before the page's own scripts.
+ * Long-polling and streaming requests never finish and keep the page busy until the timeout.
+ *
+ * Configuration (config.properties):
+ *   wait.network.tracker=true          - Register the tracker on every new document at session start
+ *   wait.network.idle=true             - CommonUtils.waitForPageLoad also waits for network idle
+ *   wait.network.quiet.millis=500      - Quiet period used by CommonUtils.waitForPageLoad
+ */
+public class NetworkIdle {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkIdle.class);
+    private static final long POLLING_MILLIS = 100;
+
+    private static final String TRACKER =
+            "(function() {"
+            + "  if (window.__seleniumJavaNetwork) return;"
+            + "  var state = window.__seleniumJavaNetwork = {inflight: 0, total: 0, last: Date.now()};"
+            + "  function start() { state.inflight++; state.total++; state.last = Date.now(); }"
+            + "  function end() { state.inflight = Math.max(0, state.inflight - 1); state.last = Date.now(); }"
+            + "  if (window.fetch) {"
+            + "    var fetch = window.fetch;"
+            + "    window.fetch = function() {"
+            + "      start();"
+            + "      try {"
+            + "        return fetch.apply(this, arguments).then("
+            + "            function(response) { end(); return response; },"
+            + "            function(error) { end(); throw error; });"
+            + "      } catch (e) { end(); throw e; }"
+            + "    };"
+            + "  }"
+            + "  if (window.XMLHttpRequest) {"
+            + "    var send = XMLHttpRequest.prototype.send;"
+            + "    XMLHttpRequest.prototype.send = function() {"
+            + "      var finished = false;"
+            + "      function finish() { if (!finished) { finished = true; end(); } }"
+            + "      start();"
+            + "      this.addEventListener('loadend', finish);"
+            + "      try { return send.apply(this, arguments); } catch (e) { finish(); throw e; }"
+            + "    };"
+            + "  }"
+            + "})();";
+
+    private static final String STATUS =
+            TRACKER
+            + "var state = window.__seleniumJavaNetwork;"
+            + "return [state.inflight, Date.now() - state.last, state.total];";
+
+    /**
+     * Register the tracker for every new document of a session if enabled in the configuration
+     * Sessions without DevTools support (e.g. Firefox) install it on the first wait instead.
+     * @param driver - WebDriver instance
+     */
+    public static void installIfEnabled(WebDriver driver) {
+        if (!ConfigManager.isNetworkTrackerEnabled() || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            Map<String, Object> params = new HashMap<>();
+            params.put("source", TRACKER);
+            devTools.send(new Command<Void>("Page.addScriptToEvaluateOnNewDocument", params));
+        } catch (Exception e) {
+            logger.warn("Could not register network tracker: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Wait until no fetch/XHR request has been running for the quiet period
+     * @param driver WebDriver instance
+     * @param quietPeriodMillis time without network activity in milliseconds
+     * @param timeoutSeconds timeout in seconds
+     * @return true if the network went idle
+     * @throws TimeoutException if requests are still running at the timeout
+     */
+    public static boolean waitForIdle(WebDriver driver, long quietPeriodMillis, int timeoutSeconds) {
+        long start = System.nanoTime();
+        long[] last = new long[3];
+        String name = "network idle for " + quietPeriodMillis + " ms";
+        long ownMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        long timeoutMillis = TestDeadline.timeoutMillis(ownMillis, name);
+        FluentWait<WebDriver> wait = new FluentWait<>(driver)
+                .withTimeout(Duration.ofMillis(timeoutMillis))
+                .pollingEvery(Duration.ofMillis(Math.min(POLLING_MILLIS, Math.max(1, quietPeriodMillis))))
+                .withMessage(() -> "network idle for " + quietPeriodMillis + " ms (" + last[0]
+                        + " requests still in flight)");
+        Function<WebDriver, Boolean> idle = input -> {
+            List<?> status = (List<?>) ((JavascriptExecutor) input).executeScript(STATUS);
+            for (int i = 0; i < last.length; i++) {
+                last[i] = ((Number) status.get(i)).longValue();
+            }
+            return last[0] == 0 && last[1] >= quietPeriodMillis;
+        };
+        try {
+            WaitProfiler.profile(null, name, timeoutSeconds, idle, wait::until);
+        } catch (TimeoutException e) {
+            if (timeoutMillis < ownMillis) {
+                throw TestDeadline.exceeded(name, e);
+            }
+            throw e;
+        }
+        logger.info("Network idle after " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                + " ms (" + last[2] + " requests tracked on this page)");
+        return true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObserverWait waits for elements inside the browser instead of polling over the WebDriver wire
+ *
+ * One executeAsyncScript call installs a MutationObserver; every DOM change schedules a check in the
+ * next animation frame, and the script calls back with the element as soon as it is present, visible
+ * or clickable. A wait therefore costs a single round trip. A short in-page interval covers changes
+ * that are not DOM mutations (CSS transitions, layout).
+ *
+ * Waits longer than the script timeout are split into several calls, navigations during a wait are
+ * retried with the remaining time. Locators the script cannot resolve (see LocatorSelector) and
+ * drivers without JavaScript fall back to WebDriverWait polling.
+ *
+ * Configuration (config.properties):
+ *   wait.mode=observer     - Use observer waits in WaitUtils and BasePage (default: polling)
+ */
+public class ObserverWait {
+    private static final Logger logger = LoggerFactory.getLogger(ObserverWait.class);
+    // Stay below WebDriver's default 30 s script timeout
+    private static final long MAX_SCRIPT_MILLIS = TimeUnit.SECONDS.toMillis(25);
+    private static final long FALLBACK_CHECK_MILLIS = 100;
+
+    /**
+     * Element state a wait resolves on
+     */
+    public enum State {
+        PRESENT, VISIBLE, CLICKABLE
+    }
+
+    private static final String SCRIPT =
+            "var strategy = arguments[0], value = arguments[1], state = arguments[2];"
+            + "var timeout = arguments[3], interval = arguments[4], done = arguments[arguments.length - 1];"
+            + LocatorSelector.JS_FUNCTIONS
+            + "function ready() {"
+            + "  var el = findElement(strategy, value);"
+            + "  if (!el) return null;"
+            + "  if (state === 'PRESENT') return el;"
+            + "  if (!isVisible(el)) return null;"
+            + "  return state === 'CLICKABLE' && el.disabled ? null : el;"
+            + "}"
+            + "var finished = false, scheduled = false, observer, timer, poller;"
+            + "function finish(result) {"
+            + "  if (finished) return;"
+            + "  finished = true;"
+            + "  if (observer) observer.disconnect();"
+            + "  clearTimeout(timer); clearInterval(poller);"
+            + "  done(result);"
+            + "}"
+            + "function check() {"
+            + "  scheduled = false;"
+            + "  try { var el = ready(); if (el) finish(el); } catch (e) { finish('error:' + e.message); }"
+            + "}"
+            + "check();"
+            + "if (finished) return;"
+            + "observer = new MutationObserver(function() {"
+            + "  if (!scheduled) { scheduled = true; window.requestAnimationFrame(check); }"
+            + "});"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "poller = setInterval(check, interval);"
+            + "timer = setTimeout(function() { finish(null); }, timeout);";
+
+    /**
+     * Wait for an element to be present in the DOM
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutSeconds timeout in seconds
+     * @return WebElement
+     */
+    public static WebElement waitForElementPresent(WebDriver driver, By locator, int timeoutSeconds) {
+        return waitFor(driver, locator, State.PRESENT, timeoutSeconds);
+    }
+
+    /**
+     * Wait for an element to be visible
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutSeconds timeout in seconds
+     * @return WebElement
+     */
+    public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
+        return waitFor(driver, locator, State.VISIBLE, timeoutSeconds);
+    }
+
+    /**
+     * Wait for an element to be visible and enabled
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutSeconds timeout in seconds
+     * @return WebElement
+     */
+    public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutSeconds) {
+        return waitFor(driver, locator, State.CLICKABLE, timeoutSeconds);
+    }
+
+    /**
+     * Wait for an element state in the browser
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param state state to wait for
+     * @param timeoutSeconds timeout in seconds
+     * @return WebElement
+     */
+    public static WebElement waitFor(WebDriver driver, By locator, State state, int timeoutSeconds) {
+        LocatorSelector selector = LocatorSelector.from(locator);
+        if (selector == null || !(driver instanceof JavascriptExecutor)) {
+            return pollingWait(driver, locator, state, timeoutSeconds);
+        }
+        String name = "observer wait for " + state.name().toLowerCase() + " element " + locator;
+        long ownMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        long timeoutMillis = TestDeadline.timeoutMillis(ownMillis, name);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        WaitProfiler.Probe probe = WaitProfiler.begin(locator, name, timeoutSeconds);
+        boolean fellBack = false;
+        try {
+            while (true) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    break;
+                }
+                Object result;
+                probe.poll();
+                try {
+                    result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, selector.getStrategy(),
+                            selector.getValue(), state.name(), Math.min(remaining, MAX_SCRIPT_MILLIS),
+                            FALLBACK_CHECK_MILLIS);
+                } catch (ScriptTimeoutException e) {
+                    // Script timeout configured below our chunk size: finish with polling (profiled there)
+                    logger.debug("Observer wait hit the script timeout, polling for the rest: " + locator);
+                    fellBack = true;
+                    return pollingWait(driver, locator, state,
+                            (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime())));
+                } catch (JavascriptException e) {
+                    // Page navigated or reloaded while waiting ("document unloaded"): try again on the new document
+                    logger.debug("Observer wait interrupted, retrying: " + locator);
+                    continue;
+                }
+                if (result instanceof WebElement) {
+                    probe.met();
+                    return (WebElement) result;
+                }
+                if (result instanceof String && ((String) result).startsWith("error:")) {
+                    // e.g. invalid XPath or selector
+                    throw new WebDriverException("Observer wait for " + locator + " failed: "
+                            + ((String) result).substring("error:".length()));
+                }
+            }
+            probe.timedOut();
+            if (timeoutMillis < ownMillis) {
+                throw TestDeadline.exceeded(name, null);
+            }
+            throw new TimeoutException("Expected condition failed: waiting for " + state.name().toLowerCase()
+                    + " element located by " + locator + " (tried for " + timeoutSeconds
+                    + " second(s) in the browser)");
+        } finally {
+            if (!fellBack) {
+                probe.end();
+            }
+        }
+    }
+
+    private static WebElement pollingWait(WebDriver driver, By locator, State state, int timeoutSeconds) {
+        switch (state) {
+            case PRESENT:
+                return WaitUtils.until(driver, locator, timeoutSeconds,
+                        ExpectedConditions.presenceOfElementLocated(locator));
+            case CLICKABLE:
+                return WaitUtils.until(driver, locator, timeoutSeconds,
+                        ExpectedConditions.elementToBeClickable(locator));
+            default:
+                return WaitUtils.until(driver, locator, timeoutSeconds,
+                        ExpectedConditions.visibilityOfElementLocated(locator));
+        }
+    }
+}
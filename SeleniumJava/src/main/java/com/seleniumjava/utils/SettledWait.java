@@ -0,0 +1,171 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettledWait waits until an element has stopped moving before it is used
+ *
+ * Clickable is not the same as ready: an element that is still sliding, growing or fading in is
+ * clickable, but the click lands where the element was a moment ago. One executeAsyncScript call
+ * compares the element's bounding box on every animation frame and resolves once it stayed the same
+ * for N frames while no CSS transition or animation runs on the element or one of its ancestors.
+ * Infinite animations (spinners, pulsing buttons) are ignored, they never end.
+ *
+ * BasePage.click/type/doubleClick/rightClick and MouseActionsUtils call settleIfEnabled before they
+ * interact. An element that does not settle in time is used anyway, as without the precondition.
+ *
+ * Configuration (config.properties):
+ *   wait.settle.enabled=true           - Wait for elements to settle before interacting with them
+ *   wait.settle.frames=3               - Animation frames the bounding box has to stay the same
+ *   wait.settle.timeout.millis=2000    - Longest wait before interacting anyway
+ */
+public class SettledWait {
+    private static final Logger logger = LoggerFactory.getLogger(SettledWait.class);
+    // Stay below WebDriver's default 30 s script timeout
+    private static final long MAX_SCRIPT_MILLIS = TimeUnit.SECONDS.toMillis(25);
+
+    private static final String SCRIPT =
+            "var el = arguments[0], frames = arguments[1], timeout = arguments[2];"
+            + "var done = arguments[arguments.length - 1];"
+            + "var start = Date.now(), stable = 0, checks = 0, last = null;"
+            + "function animating() {"
+            + "  if (!document.getAnimations) return false;"
+            + "  var running = document.getAnimations();"
+            + "  for (var i = 0; i < running.length; i++) {"
+            + "    var a = running[i], target = a.effect && a.effect.target;"
+            + "    if (a.playState !== 'running' || !target || !target.contains) continue;"
+            + "    if (a.effect.getComputedTiming().iterations === Infinity) continue;"
+            + "    if (target.contains(el)) return true;"
+            + "  }"
+            + "  return false;"
+            + "}"
+            // Background tabs get no animation frames: fall back to a timer
+            + "function nextFrame(callback) {"
+            + "  var fired = false;"
+            + "  function once() { if (!fired) { fired = true; callback(); } }"
+            + "  window.requestAnimationFrame(once);"
+            + "  setTimeout(once, 100);"
+            + "}"
+            + "function check() {"
+            + "  if (!el.isConnected) { done('detached'); return; }"
+            + "  var r = el.getBoundingClientRect(), box = [r.left, r.top, r.width, r.height].join(',');"
+            + "  var moving = animating();"
+            + "  checks++;"
+            + "  if (box === last && !moving) { stable++; } else { stable = 0; last = box; }"
+            + "  if (stable >= frames) { done('settled:' + checks); return; }"
+            + "  if (Date.now() - start >= timeout) {"
+            + "    done('timeout:' + (moving ? 'transition or animation running' : 'bounding box still changing'));"
+            + "    return;"
+            + "  }"
+            + "  nextFrame(check);"
+            + "}"
+            + "check();";
+
+    /**
+     * Wait for an element to be visible and settled
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutSeconds timeout in seconds for both
+     * @return WebElement
+     * @throws TimeoutException if the element is not visible or does not settle in time
+     */
+    public static WebElement waitForSettled(WebDriver driver, By locator, int timeoutSeconds) {
+        long start = System.nanoTime();
+        WebElement element = WaitUtils.until(driver, locator, timeoutSeconds,
+                ExpectedConditions.visibilityOfElementLocated(locator));
+        long remaining = TimeUnit.SECONDS.toMillis(timeoutSeconds)
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return settle(driver, locator, element, ConfigManager.getSettleFrames(), Math.max(0, remaining));
+    }
+
+    /**
+     * Wait for an element to settle
+     * @param driver WebDriver instance
+     * @param element element to wait for
+     * @param frames animation frames the bounding box has to stay the same
+     * @param timeoutMillis timeout in milliseconds
+     * @return The element
+     * @throws TimeoutException if the element does not settle in time
+     * @throws StaleElementReferenceException if the element is removed while waiting
+     */
+    public static WebElement waitForSettled(WebDriver driver, WebElement element, int frames, long timeoutMillis) {
+        return settle(driver, null, element, frames, timeoutMillis);
+    }
+
+    /**
+     * Interaction precondition: wait for the element to settle if wait.settle.enabled is set
+     * An element that does not settle within wait.settle.timeout.millis is returned anyway.
+     * @param driver WebDriver instance
+     * @param element element about to be used
+     * @return The element
+     */
+    public static WebElement settleIfEnabled(WebDriver driver, WebElement element) {
+        if (!ConfigManager.isSettleWaitEnabled() || element == null) {
+            return element;
+        }
+        try {
+            return settle(driver, null, element, ConfigManager.getSettleFrames(),
+                    ConfigManager.getSettleTimeoutMillis());
+        } catch (TimeoutException | StaleElementReferenceException e) {
+            // Interact as without the precondition and let the interaction report the problem
+            logger.warn("Interacting with unsettled element: " + e.getMessage());
+            return element;
+        }
+    }
+
+    private static WebElement settle(WebDriver driver, By locator, WebElement element, int frames,
+                                     long ownMillis) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return element;
+        }
+        String name = "settled for " + frames + " frames";
+        long timeoutMillis = TestDeadline.timeoutMillis(ownMillis, name);
+        WaitProfiler.Probe probe = WaitProfiler.begin(locator, name,
+                (int) TimeUnit.MILLISECONDS.toSeconds(ownMillis + 999));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            String status;
+            // One script call runs at most MAX_SCRIPT_MILLIS: longer waits run it again until the deadline
+            do {
+                long remaining = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                probe.poll();
+                Object result;
+                try {
+                    result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, element, frames,
+                            Math.min(remaining, MAX_SCRIPT_MILLIS));
+                } catch (ScriptTimeoutException e) {
+                    result = "timeout:script timeout";
+                }
+                status = String.valueOf(result);
+            } while (status.startsWith("timeout") && System.nanoTime() < deadline);
+            if (status.startsWith("settled")) {
+                probe.met();
+                logger.debug("Element settled after " + status.substring("settled:".length()) + " checks");
+                return element;
+            }
+            if (status.equals("detached")) {
+                throw new StaleElementReferenceException("Element removed while waiting for it to settle: "
+                        + (locator != null ? locator : element));
+            }
+            probe.timedOut();
+            String reason = status.substring(status.indexOf(':') + 1);
+            if (timeoutMillis < ownMillis) {
+                throw TestDeadline.exceeded(name, new TimeoutException(reason));
+            }
+            throw new TimeoutException("Element did not settle within " + ownMillis + " ms (" + reason + "): "
+                    + (locator != null ? locator : element));
+        } finally {
+            probe.end();
+        }
+    }
+}
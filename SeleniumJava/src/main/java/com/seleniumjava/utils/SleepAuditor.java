@@ -0,0 +1,193 @@
+package com.seleniumjava.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SleepAuditor runs every remaining hard sleep and keeps account of it per test and per call site
+ *
+ * WaitUtils.threadSleep, CommonUtils.threadWait and BaseApiTest.waitFor sleep through this class.
+ * The TestNG listener starts and ends the per-test account around every test method and checks the budgets:
+ * a test or the whole run sleeping longer than its budget is reported, and fails the test with
+ * sleep.budget.fail=true. The run budget is charged to the one test whose sleep crossed it (later tests
+ * are not blamed) and reported again at the end of the run. Prefer the condition based waits (WaitUtils.until, waitForNetworkIdle, ...).
+ *
+ * Configuration (config.properties):
+ *   sleep.budget.test.millis=0     - Sleep allowed per test (0 = unlimited)
+ *   sleep.budget.run.millis=0      - Sleep allowed for the whole run (0 = unlimited)
+ *   sleep.budget.fail=false        - Fail the test that exceeds a budget instead of logging a warning
+ */
+public class SleepAuditor {
+    private static final Logger logger = LoggerFactory.getLogger(SleepAuditor.class);
+    // Sleep helpers: the call site is the first frame outside of these
+    private static final List<String> SLEEP_HELPERS = Arrays.asList(SleepAuditor.class.getName(),
+            WaitUtils.class.getName(), CommonUtils.class.getName(), "com.seleniumjava.base.BaseApiTest");
+    private static final ThreadLocal<TestSleeps> current = new ThreadLocal<>();
+    private static final Map<String, AtomicLong> bySite = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> byTest = new ConcurrentHashMap<>();
+    private static final AtomicLong totalMillis = new AtomicLong();
+    private static final AtomicLong totalSleeps = new AtomicLong();
+
+    /**
+     * Sleeps of one test
+     */
+    public static class TestSleeps {
+        private final String testName;
+        private long millis;
+        private int sleeps;
+        private boolean crossedRunBudget;
+
+        private TestSleeps(String testName) {
+            this.testName = testName;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public int getSleeps() {
+            return sleeps;
+        }
+    }
+
+    /**
+     * Sleep and record the sleep for the current test and call site
+     * An interrupt ends the sleep early and keeps the thread's interrupt flag set.
+     * @param millis milliseconds to sleep
+     */
+    public static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        String site = callSite();
+        long total = totalMillis.addAndGet(millis);
+        totalSleeps.incrementAndGet();
+        bySite.computeIfAbsent(site, key -> new AtomicLong()).addAndGet(millis);
+        TestSleeps test = current.get();
+        if (test != null) {
+            test.millis += millis;
+            test.sleeps++;
+            long runBudget = ConfigManager.getSleepBudgetRunMillis();
+            // Exactly one sleep moves the total over the budget
+            if (runBudget > 0 && total > runBudget && total - millis <= runBudget) {
+                test.crossedRunBudget = true;
+            }
+            byTest.computeIfAbsent(test.testName, key -> new AtomicLong()).addAndGet(millis);
+        }
+        logger.debug("Hard sleep of " + millis + " ms at " + site);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Sleep interrupted at " + site);
+        }
+    }
+
+    /**
+     * Start the sleep account of a test on the current thread
+     * @param testName test name (class.method)
+     */
+    public static void beginTest(String testName) {
+        current.set(new TestSleeps(testName));
+    }
+
+    /**
+     * End the sleep account of the test on the current thread
+     * @return Sleeps of the test, null if no test was started
+     */
+    public static TestSleeps endTest() {
+        TestSleeps test = current.get();
+        current.remove();
+        return test;
+    }
+
+    /**
+     * Check a finished test against the test budget, and the run budget if this test crossed it
+     * @param test sleeps of the test
+     * @return Budget violation message, null if within budget
+     */
+    public static String checkBudget(TestSleeps test) {
+        long testBudget = ConfigManager.getSleepBudgetTestMillis();
+        if (test != null && testBudget > 0 && test.millis > testBudget) {
+            return test.testName + " slept " + test.millis + " ms in " + test.sleeps + " sleeps, budget "
+                    + testBudget + " ms";
+        }
+        if (test != null && test.crossedRunBudget) {
+            return test.testName + " crossed the run budget: " + getRunBudgetViolation();
+        }
+        return null;
+    }
+
+    /**
+     * Check the whole run against the run budget
+     * @return Budget violation message, null if within budget
+     */
+    public static String getRunBudgetViolation() {
+        long runBudget = ConfigManager.getSleepBudgetRunMillis();
+        if (runBudget > 0 && totalMillis.get() > runBudget) {
+            return "run slept " + totalMillis.get() + " ms in " + totalSleeps.get() + " sleeps, budget "
+                    + runBudget + " ms";
+        }
+        return null;
+    }
+
+    public static long getTotalMillis() {
+        return totalMillis.get();
+    }
+
+    public static long getTotalSleeps() {
+        return totalSleeps.get();
+    }
+
+    /**
+     * Get summary of all sleeps: totals, tests and call sites that slept longest
+     * @param rows entries per list
+     * @return Summary text
+     */
+    public static String getSummary(int rows) {
+        StringBuilder summary = new StringBuilder("Hard sleeps: ").append(totalSleeps.get()).append(" sleeps, ")
+                .append(totalMillis.get()).append(" ms\n");
+        summary.append("  By test:\n");
+        appendTop(summary, byTest, rows);
+        summary.append("  By call site:\n");
+        appendTop(summary, bySite, rows);
+        return summary.toString();
+    }
+
+    /**
+     * Forget all recorded sleeps
+     */
+    public static void reset() {
+        bySite.clear();
+        byTest.clear();
+        totalMillis.set(0);
+        totalSleeps.set(0);
+    }
+
+    private static void appendTop(StringBuilder summary, Map<String, AtomicLong> totals, int rows) {
+        List<Map.Entry<String, AtomicLong>> entries = new ArrayList<>(totals.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()));
+        for (Map.Entry<String, AtomicLong> entry : entries.subList(0, Math.min(rows, entries.size()))) {
+            summary.append("    ").append(entry.getValue().get()).append(" ms  ").append(entry.getKey()).append('\n');
+        }
+    }
+
+    private static String callSite() {
+        Optional<StackWalker.StackFrame> frame = StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !SLEEP_HELPERS.contains(f.getClassName()))
+                .findFirst());
+        return frame.map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "."
+                + f.getMethodName() + ":" + f.getLineNumber()).orElse("unknown");
+    }
+}
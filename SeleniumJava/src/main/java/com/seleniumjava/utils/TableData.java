@@ -0,0 +1,184 @@
+package com.seleniumjava.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TableData is an in-memory copy of an HTML table or grid, read by TableReader
+ *
+ * Cells are stored by column (one array per column), so reading a whole column or looking up rows by the
+ * value of a column does not touch the other columns. Columns can be addressed by index or header text.
+ * Cells missing in short rows are null. Links (first href of a cell) are only present if requested.
+ */
+public class TableData {
+    private final List<String> headers;
+    private final Map<String, Integer> headerIndex = new HashMap<>();
+    private final String[][] columns;
+    private final String[][] links;
+    private final int rowCount;
+    private final boolean complete;
+
+    TableData(List<String> headers, List<List<String>> rows, List<List<String>> rowLinks, boolean complete) {
+        int columnCount = headers.size();
+        for (List<String> row : rows) {
+            columnCount = Math.max(columnCount, row.size());
+        }
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        for (int c = 0; c < headers.size(); c++) {
+            // First column wins for duplicate headers
+            headerIndex.putIfAbsent(headers.get(c), c);
+        }
+        this.rowCount = rows.size();
+        this.columns = toColumns(rows, columnCount);
+        this.links = rowLinks == null ? null : toColumns(rowLinks, columnCount);
+        this.complete = complete;
+    }
+
+    // ======================== SHAPE ========================
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Check if the whole table was read
+     * @return false if reading stopped at maxRows, maxPages or the script timeout
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Get the index of a column
+     * @param header header text
+     * @return Column index
+     * @throws IllegalArgumentException if no column has this header
+     */
+    public int getColumnIndex(String header) {
+        Integer index = headerIndex.get(header);
+        if (index == null) {
+            throw new IllegalArgumentException("No column '" + header + "' in table with headers " + headers);
+        }
+        return index;
+    }
+
+    // ======================== CELLS ========================
+
+    public String getCell(int row, int column) {
+        checkRow(row);
+        return columns[column][row];
+    }
+
+    public String getCell(int row, String header) {
+        return getCell(row, getColumnIndex(header));
+    }
+
+    /**
+     * Get the link of a cell
+     * @param row row index (0 = first data row)
+     * @param column column index
+     * @return Absolute URL of the first link in the cell, null if it has none
+     * @throws IllegalStateException if the table was read without links
+     */
+    public String getLink(int row, int column) {
+        if (links == null) {
+            throw new IllegalStateException("Table was read without links (TableReader.withLinks())");
+        }
+        checkRow(row);
+        return links[column][row];
+    }
+
+    public String getLink(int row, String header) {
+        return getLink(row, getColumnIndex(header));
+    }
+
+    // ======================== ROWS & COLUMNS ========================
+
+    public List<String> getColumn(int column) {
+        return Collections.unmodifiableList(Arrays.asList(columns[column]));
+    }
+
+    public List<String> getColumn(String header) {
+        return getColumn(getColumnIndex(header));
+    }
+
+    /**
+     * Get a row
+     * @param row row index (0 = first data row)
+     * @return Cell texts of the row
+     */
+    public List<String> getRow(int row) {
+        checkRow(row);
+        List<String> values = new ArrayList<>(columns.length);
+        for (String[] column : columns) {
+            values.add(column[row]);
+        }
+        return values;
+    }
+
+    /**
+     * Get a row by header
+     * @param row row index (0 = first data row)
+     * @return Header to cell text, in column order (columns without header are left out)
+     */
+    public Map<String, String> getRowMap(int row) {
+        checkRow(row);
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int c = 0; c < headers.size(); c++) {
+            values.putIfAbsent(headers.get(c), columns[c][row]);
+        }
+        return values;
+    }
+
+    /**
+     * Find the first row with a value in a column
+     * @param header header of the column to search
+     * @param value cell text to find
+     * @return Row index, -1 if no row has the value
+     */
+    public int findRow(String header, String value) {
+        String[] column = columns[getColumnIndex(header)];
+        for (int row = 0; row < rowCount; row++) {
+            if (value.equals(column[row])) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "TableData[" + rowCount + " rows x " + columns.length + " columns, headers " + headers
+                + (complete ? "" : ", incomplete") + "]";
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+    }
+
+    private static String[][] toColumns(List<List<String>> rows, int columnCount) {
+        String[][] columns = new String[columnCount][rows.size()];
+        for (int r = 0; r < rows.size(); r++) {
+            List<String> row = rows.get(r);
+            for (int c = 0; c < row.size(); c++) {
+                columns[c][r] = row.get(c);
+            }
+        }
+        return columns;
+    }
+}
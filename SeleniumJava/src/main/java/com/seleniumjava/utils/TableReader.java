@@ -0,0 +1,299 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TableReader copies a whole table into a TableData with one script call per page
+ *
+ * Reading cell by cell costs a findElement and a getText round trip per cell. The reader's script walks
+ * the table in the browser and returns headers, cell texts and optionally links at once.
+ * Works on HTML tables (tr/th/td) and ARIA grids (role=row/columnheader/gridcell). The last row made of
+ * header cells only becomes the header; all rows with other cells are data rows. colspan/rowspan are not
+ * expanded.
+ *
+ * Large grids:
+ *   virtualScroll() - for grids that only render the visible rows: the script scrolls the grid's scroll
+ *                     container from top to bottom and collects every row once (rows are told apart by
+ *                     aria-rowindex/data-row-index, else by their text), then restores the scroll position
+ *   paged(next, n)  - reads up to n pages, clicking the next page control and waiting for the rows to change
+ *
+ * Usage:
+ *   TableData users = TableReader.of(driver, By.id("users")).withLinks().read();
+ *   String email = users.getCell(users.findRow("Name", "Ann"), "Email");
+ */
+public class TableReader {
+    private static final Logger logger = LoggerFactory.getLogger(TableReader.class);
+    // Stay below WebDriver's default 30 s script timeout
+    private static final long MAX_SCRIPT_MILLIS = TimeUnit.SECONDS.toMillis(25);
+    private static final long SETTLE_MILLIS = 100;
+
+    private static final String SCRIPT =
+            "var strategy = arguments[0], value = arguments[1], mode = arguments[3], withLinks = arguments[4];"
+            + "var maxRows = arguments[5], timeout = arguments[6], settle = arguments[7];"
+            + "var done = arguments[arguments.length - 1];"
+            + LocatorSelector.JS_FUNCTIONS
+            + "var table = strategy ? findElement(strategy, value) : arguments[2];"
+            + "if (!table) { done(null); return; }"
+            + "function text(cell) { return (cell.innerText || cell.textContent || '').trim(); }"
+            + "function link(cell) { var a = cell.querySelector('a[href]'); return a ? a.href : null; }"
+            + "function rowsOf() {"
+            + "  return Array.prototype.slice.call(table.tagName === 'TABLE' ? table.rows"
+            + "      : table.querySelectorAll('[role=row]'));"
+            + "}"
+            + "function cellsOf(row) {"
+            + "  return Array.prototype.filter.call(row.children, function(c) {"
+            + "    return c.tagName === 'TD' || c.tagName === 'TH'"
+            + "        || /^(cell|gridcell|columnheader|rowheader)$/.test(c.getAttribute('role'));"
+            + "  });"
+            + "}"
+            + "function isHeader(cell) { return cell.tagName === 'TH' || cell.getAttribute('role') === 'columnheader'; }"
+            + "function read() {"
+            + "  var result = {headers: null, rows: [], links: [], keys: []};"
+            + "  rowsOf().forEach(function(row) {"
+            + "    var cells = cellsOf(row);"
+            + "    if (!cells.length) return;"
+            + "    var values = cells.map(text);"
+            + "    if (cells.every(isHeader)) { result.headers = values; return; }"
+            + "    result.rows.push(values);"
+            + "    if (withLinks) result.links.push(cells.map(link));"
+            + "    result.keys.push(row.getAttribute('aria-rowindex') || row.getAttribute('data-row-index')"
+            + "        || values.join('\\u0001'));"
+            + "  });"
+            + "  return result;"
+            + "}"
+            + "if (mode === 'signature') { var s = read(); done(s.rows.length + ':' + (s.keys[0] || '')); return; }"
+            + "var headers = null, rows = [], links = [], seen = {}, complete = true;"
+            + "function collect() {"
+            + "  var r = read();"
+            + "  if (r.headers) headers = r.headers;"
+            + "  for (var i = 0; i < r.rows.length; i++) {"
+            + "    if (mode === 'scroll') {"
+            + "      if (seen.hasOwnProperty(r.keys[i])) continue;"
+            + "      seen[r.keys[i]] = true;"
+            + "    }"
+            + "    if (rows.length >= maxRows) { complete = false; break; }"
+            + "    rows.push(r.rows[i]);"
+            + "    if (withLinks) links.push(r.links[i]);"
+            + "  }"
+            + "}"
+            + "function finish() { done([headers || [], rows, withLinks ? links : null, complete]); }"
+            + "if (mode !== 'scroll') { collect(); finish(); return; }"
+            + "function scrollable(node) {"
+            + "  var overflow = window.getComputedStyle(node).overflowY;"
+            + "  return (overflow === 'auto' || overflow === 'scroll') && node.scrollHeight > node.clientHeight;"
+            + "}"
+            + "function findScroller() {"
+            + "  if (scrollable(table)) return table;"
+            + "  var inner = Array.prototype.find.call(table.querySelectorAll('*'), scrollable);"
+            + "  if (inner) return inner;"
+            + "  for (var node = table.parentElement; node && node !== document.body; node = node.parentElement) {"
+            + "    if (scrollable(node)) return node;"
+            + "  }"
+            + "  return document.scrollingElement;"
+            + "}"
+            + "var scroller = arguments[8] || findScroller(), origin = scroller.scrollTop, start = Date.now();"
+            + "function end() { scroller.scrollTop = origin; finish(); }"
+            + "function step() {"
+            + "  collect();"
+            + "  if (!complete) { end(); return; }"
+            + "  var before = scroller.scrollTop;"
+            + "  scroller.scrollTop = before + Math.max(1, Math.floor(scroller.clientHeight * 0.8));"
+            + "  if (scroller.scrollTop === before) { end(); return; }"
+            + "  if (Date.now() - start > timeout) { complete = false; end(); return; }"
+            + "  setTimeout(step, settle);"
+            + "}"
+            + "scroller.scrollTop = 0;"
+            + "setTimeout(step, settle);";
+
+    private final WebDriver driver;
+    private final By locator;
+    private boolean links;
+    private boolean virtualScroll;
+    private By scrollContainer;
+    private By nextPage;
+    private int maxPages = 1;
+    private int maxRows = Integer.MAX_VALUE;
+    private int timeoutSeconds = ConfigManager.getExplicitWait();
+
+    private TableReader(WebDriver driver, By locator) {
+        this.driver = driver;
+        this.locator = locator;
+    }
+
+    /**
+     * Start reading a table
+     * @param driver WebDriver instance
+     * @param tableLocator locator of the table or grid element
+     * @return Reader to configure
+     */
+    public static TableReader of(WebDriver driver, By tableLocator) {
+        return new TableReader(driver, tableLocator);
+    }
+
+    /**
+     * Also read the first link of every cell
+     * @return This reader
+     */
+    public TableReader withLinks() {
+        this.links = true;
+        return this;
+    }
+
+    /**
+     * Scroll through a virtualized grid, the scroll container is found automatically
+     * @return This reader
+     */
+    public TableReader virtualScroll() {
+        this.virtualScroll = true;
+        return this;
+    }
+
+    /**
+     * Scroll through a virtualized grid
+     * @param container locator of the element that scrolls the rows
+     * @return This reader
+     */
+    public TableReader virtualScroll(By container) {
+        this.virtualScroll = true;
+        this.scrollContainer = container;
+        return this;
+    }
+
+    /**
+     * Read several pages of a paged table
+     * @param nextPageLocator next page control; reading stops when it is missing, hidden or disabled
+     * @param pages maximum number of pages to read
+     * @return This reader
+     */
+    public TableReader paged(By nextPageLocator, int pages) {
+        this.nextPage = nextPageLocator;
+        this.maxPages = pages;
+        return this;
+    }
+
+    /**
+     * Stop after a number of rows
+     * @param rows maximum number of data rows
+     * @return This reader
+     */
+    public TableReader maxRows(int rows) {
+        this.maxRows = rows;
+        return this;
+    }
+
+    /**
+     * Time to wait for the next page and for a virtual scroll (default explicit.wait)
+     * @param seconds timeout in seconds
+     * @return This reader
+     */
+    public TableReader timeout(int seconds) {
+        this.timeoutSeconds = seconds;
+        return this;
+    }
+
+    /**
+     * Read the table
+     * @return Table copy
+     * @throws NoSuchElementException if the table is not found
+     */
+    public TableData read() {
+        long start = System.nanoTime();
+        List<String> headers = Collections.emptyList();
+        List<List<String>> rows = new ArrayList<>();
+        List<List<String>> rowLinks = links ? new ArrayList<>() : null;
+        boolean complete;
+        int page = 1;
+        while (true) {
+            List<?> result = (List<?>) run(virtualScroll ? "scroll" : "read", maxRows - rows.size());
+            if (result == null) {
+                throw new NoSuchElementException("Table not found: " + locator);
+            }
+            if (headers.isEmpty()) {
+                headers = strings(result.get(0));
+            }
+            for (Object row : (List<?>) result.get(1)) {
+                rows.add(strings(row));
+            }
+            if (links) {
+                for (Object row : (List<?>) result.get(2)) {
+                    rowLinks.add(strings(row));
+                }
+            }
+            complete = Boolean.TRUE.equals(result.get(3));
+            if (!complete || nextPage == null) {
+                break;
+            }
+            WebElement next = findNextPage();
+            if (next == null) {
+                break;
+            }
+            if (page >= maxPages) {
+                complete = false;
+                break;
+            }
+            turnPage(next);
+            page++;
+        }
+        TableData table = new TableData(headers, rows, rowLinks, complete);
+        logger.info("Read " + table + " from " + page + " page(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms: " + locator);
+        return table;
+    }
+
+    private Object run(String mode, int rowsLeft) {
+        LocatorSelector selector = LocatorSelector.from(locator);
+        WebElement table = selector == null ? ElementLookup.find(driver, locator) : null;
+        WebElement container = scrollContainer == null ? null : ElementLookup.find(driver, scrollContainer);
+        return ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+                selector == null ? null : selector.getStrategy(), selector == null ? null : selector.getValue(),
+                table, mode, links, rowsLeft, Math.min(TimeUnit.SECONDS.toMillis(timeoutSeconds), MAX_SCRIPT_MILLIS),
+                SETTLE_MILLIS, container);
+    }
+
+    private WebElement findNextPage() {
+        for (WebElement next : ElementLookup.findAll(driver, nextPage, 0)) {
+            String className = String.valueOf(next.getAttribute("class"));
+            if (next.isDisplayed() && next.isEnabled() && !"true".equals(next.getAttribute("aria-disabled"))
+                    && !className.contains("disabled")) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    private void turnPage(WebElement next) {
+        Object before = run("signature", 0);
+        next.click();
+        WaitUtils.until(driver, locator, timeoutSeconds, new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver input) {
+                Object now = run("signature", 0);
+                return now != null && !now.equals(before);
+            }
+
+            @Override
+            public String toString() {
+                return "next table page";
+            }
+        });
+    }
+
+    private static List<String> strings(Object values) {
+        List<String> strings = new ArrayList<>();
+        for (Object value : (List<?>) values) {
+            strings.add(value == null ? null : value.toString());
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,174 @@
+package com.seleniumjava.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDeadline is a per-test time budget that all waits of the test draw from
+ *
+ * Waits issued through WaitUtils, BasePage, CommonUtils, ObserverWait and the network idle wait get
+ * min(own timeout, remaining budget). Once the budget is used up the next wait fails at once, and a
+ * wait cut short by the budget fails with DeadlineExceededError instead of its TimeoutException.
+ * The error message breaks the test's time down by wait.
+ *
+ * DeadlineExceededError is an AssertionError, so page methods that catch Exception do not swallow it.
+ *
+ * The TestNG listener (TestListener) starts a deadline for every test method. The budget is taken from
+ *   @Test(attributes = @CustomAttribute(name = "deadline.seconds", values = "30"))
+ * or from test.deadline.seconds in config.properties (0 = no deadline).
+ */
+public class TestDeadline {
+    public static final String ATTRIBUTE = "deadline.seconds";
+    private static final int BREAKDOWN_ROWS = 10;
+    private static final ThreadLocal<TestDeadline> current = new ThreadLocal<>();
+
+    private final String testName;
+    private final long budgetMillis;
+    private final long startNanos = System.nanoTime();
+    private final long deadlineNanos;
+    // Wait name -> {total millis, count}
+    private final Map<String, long[]> waits = new LinkedHashMap<>();
+
+    /**
+     * Thrown when a test has used up its deadline
+     */
+    public static class DeadlineExceededError extends AssertionError {
+        private DeadlineExceededError(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private TestDeadline(String testName, long budgetMillis) {
+        this.testName = testName;
+        this.budgetMillis = budgetMillis;
+        this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * Start a deadline for the test running on the current thread
+     * @param testName test name used in the breakdown
+     * @param budgetMillis budget in milliseconds, 0 or less for no deadline
+     */
+    public static void begin(String testName, long budgetMillis) {
+        if (budgetMillis > 0) {
+            current.set(new TestDeadline(testName, budgetMillis));
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * End the deadline of the current thread
+     * @return Ended deadline, null if none was running
+     */
+    public static TestDeadline end() {
+        TestDeadline deadline = current.get();
+        current.remove();
+        return deadline;
+    }
+
+    /**
+     * Get the deadline of the current thread
+     * @return Running deadline or null
+     */
+    public static TestDeadline current() {
+        return current.get();
+    }
+
+    /**
+     * Get the timeout a wait may use
+     * @param ownTimeoutMillis timeout the wait asked for
+     * @param waitName wait name used if the budget is already used up
+     * @return min(own timeout, remaining budget)
+     * @throws DeadlineExceededError if no budget is left
+     */
+    public static long timeoutMillis(long ownTimeoutMillis, String waitName) {
+        TestDeadline deadline = current.get();
+        if (deadline == null) {
+            return ownTimeoutMillis;
+        }
+        long remaining = deadline.getRemainingMillis();
+        if (remaining <= 0) {
+            throw deadline.exceeded(waitName, null);
+        }
+        return Math.min(ownTimeoutMillis, remaining);
+    }
+
+    /**
+     * Build the error for a wait that timed out because the budget ran out
+     * @param waitName wait that timed out
+     * @param cause the wait's timeout
+     * @return Error to throw
+     */
+    public static DeadlineExceededError exceeded(String waitName, Throwable cause) {
+        TestDeadline deadline = current.get();
+        if (deadline == null) {
+            return new DeadlineExceededError("Deadline exceeded waiting for " + waitName, cause);
+        }
+        return deadline.exceededError(waitName, cause);
+    }
+
+    /**
+     * Add a finished wait to the breakdown of the current test
+     * @param waitName wait name
+     * @param millis time the wait took
+     */
+    static void record(String waitName, long millis) {
+        TestDeadline deadline = current.get();
+        if (deadline != null) {
+            long[] total = deadline.waits.computeIfAbsent(waitName, key -> new long[2]);
+            total[0] += millis;
+            total[1]++;
+        }
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public long getRemainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExceeded() {
+        return getRemainingMillis() <= 0;
+    }
+
+    /**
+     * Describe where the test's time went
+     * @return Breakdown: waits by total time and the time spent outside waits
+     */
+    public String getBreakdown() {
+        long elapsed = getElapsedMillis();
+        long waited = 0;
+        for (long[] total : waits.values()) {
+            waited += total[0];
+        }
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(waits.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        StringBuilder breakdown = new StringBuilder();
+        breakdown.append(testName).append(" used ").append(elapsed).append(" ms of ").append(budgetMillis)
+                .append(" ms: ").append(waited).append(" ms in waits, ").append(Math.max(0, elapsed - waited))
+                .append(" ms outside waits");
+        for (Map.Entry<String, long[]> entry : entries.subList(0, Math.min(BREAKDOWN_ROWS, entries.size()))) {
+            breakdown.append("\n    ").append(entry.getValue()[0]).append(" ms  ").append(entry.getValue()[1])
+                    .append("x ").append(entry.getKey());
+        }
+        return breakdown.toString();
+    }
+
+    private DeadlineExceededError exceededError(String waitName, Throwable cause) {
+        return new DeadlineExceededError("Deadline exceeded waiting for " + waitName + "\n  " + getBreakdown(), cause);
+    }
+}
@@ -0,0 +1,459 @@
+package com.seleniumjava.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * WaitProfiler records every wait issued through WaitUtils, BasePage and CommonUtils
+ *
+ * Each wait is recorded with locator, condition, timeout, duration, number of polls and outcome.
+ * Waits are aggregated per locator and condition; writeProfile() stores the run as JSON and
+ * getSummaryTable() ranks the waits that cost the most time and the ones that time out most often.
+ *
+ * Configuration (config.properties):
+ *   wait.profile.enabled=true                         - Record waits
+ *   wait.profile.path=test-results/wait-profile.json  - Profile written at the end of the run
+ *
+ * Usage (inside a wait implementation):
+ *   WaitProfiler.Probe probe = WaitProfiler.begin(locator, condition.toString(), timeoutSeconds);
+ *   try {
+ *       T value = wait.until(probe.counting(condition));
+ *       probe.met();
+ *       return value;
+ *   } catch (TimeoutException e) {
+ *       probe.timedOut();
+ *       throw e;
+ *   } finally {
+ *       probe.end();
+ *   }
+ */
+public class WaitProfiler {
+    private static final Logger logger = LoggerFactory.getLogger(WaitProfiler.class);
+    private static final int SLOWEST_KEPT = 20;
+    private static final Map<String, WaitStats> stats = new ConcurrentHashMap<>();
+    private static final PriorityQueue<WaitRecord> slowest =
+            new PriorityQueue<>(Comparator.comparingLong(WaitRecord::getDurationMillis));
+
+    /**
+     * How a wait ended
+     */
+    public enum Outcome {
+        MET, TIMEOUT, ERROR
+    }
+
+    /**
+     * One recorded wait
+     */
+    public static class WaitRecord {
+        private final String locator;
+        private final String condition;
+        private final int timeoutSeconds;
+        private final long durationMillis;
+        private final int polls;
+        private final Outcome outcome;
+        private final String thread;
+
+        private WaitRecord(Probe probe, long durationMillis) {
+            this.locator = probe.locator;
+            this.condition = probe.condition;
+            this.timeoutSeconds = probe.timeoutSeconds;
+            this.durationMillis = durationMillis;
+            this.polls = probe.polls.get();
+            this.outcome = probe.outcome;
+            this.thread = Thread.currentThread().getName();
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public String getCondition() {
+            return condition;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+    }
+
+    /**
+     * Aggregated waits of one locator and condition
+     */
+    public static class WaitStats {
+        private final String locator;
+        private final String condition;
+        private int maxTimeoutSeconds;
+        private long count;
+        private long met;
+        private long timeouts;
+        private long errors;
+        private long totalMillis;
+        private long maxMillis;
+        private long totalPolls;
+
+        private WaitStats(String locator, String condition) {
+            this.locator = locator;
+            this.condition = condition;
+        }
+
+        private synchronized void add(WaitRecord record) {
+            count++;
+            switch (record.outcome) {
+                case MET:
+                    met++;
+                    break;
+                case TIMEOUT:
+                    timeouts++;
+                    break;
+                default:
+                    errors++;
+            }
+            totalMillis += record.durationMillis;
+            maxMillis = Math.max(maxMillis, record.durationMillis);
+            totalPolls += record.polls;
+            maxTimeoutSeconds = Math.max(maxTimeoutSeconds, record.timeoutSeconds);
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public String getCondition() {
+            return condition;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getTimeouts() {
+            return timeouts;
+        }
+
+        public synchronized long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public synchronized long getMaxMillis() {
+            return maxMillis;
+        }
+
+        public synchronized long getAverageMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+
+        public synchronized double getAveragePolls() {
+            return count == 0 ? 0 : (double) totalPolls / count;
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("locator", locator);
+            map.put("condition", condition);
+            map.put("timeoutSeconds", maxTimeoutSeconds);
+            map.put("count", count);
+            map.put("met", met);
+            map.put("timeouts", timeouts);
+            map.put("errors", errors);
+            map.put("totalMillis", totalMillis);
+            map.put("avgMillis", getAverageMillis());
+            map.put("maxMillis", maxMillis);
+            map.put("avgPolls", Math.round(getAveragePolls() * 10) / 10.0);
+            return map;
+        }
+    }
+
+    /**
+     * A wait in progress
+     */
+    public static class Probe {
+        private final String locator;
+        private final String condition;
+        private final int timeoutSeconds;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger polls = new AtomicInteger();
+        private Outcome outcome = Outcome.ERROR;
+
+        private Probe(String locator, String condition, int timeoutSeconds) {
+            this.locator = locator;
+            this.condition = condition;
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        /**
+         * Wrap a condition so every evaluation counts as a poll
+         * The wrapper keeps the condition's toString() for timeout messages.
+         * @param condition condition to wait for
+         * @return Counting condition
+         */
+        public <T> Function<WebDriver, T> counting(Function<? super WebDriver, T> condition) {
+            return new Function<WebDriver, T>() {
+                @Override
+                public T apply(WebDriver driver) {
+                    polls.incrementAndGet();
+                    return condition.apply(driver);
+                }
+
+                @Override
+                public String toString() {
+                    return condition.toString();
+                }
+            };
+        }
+
+        /**
+         * Count a poll of a wait that does not evaluate a condition function
+         */
+        public void poll() {
+            polls.incrementAndGet();
+        }
+
+        public void met() {
+            outcome = Outcome.MET;
+        }
+
+        public void timedOut() {
+            outcome = Outcome.TIMEOUT;
+        }
+
+        /**
+         * Record the wait; waits ended without met() or timedOut() count as errors
+         * The wait is also added to the running TestDeadline's breakdown.
+         */
+        public void end() {
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            TestDeadline.record(condition, durationMillis);
+            if (ConfigManager.isWaitProfileEnabled()) {
+                record(new WaitRecord(this, durationMillis));
+            }
+        }
+    }
+
+    /**
+     * Start profiling a wait
+     * @param locator locator waited for, null for conditions without locator
+     * @param condition readable condition (e.g. ExpectedCondition.toString())
+     * @param timeoutSeconds timeout in seconds
+     * @return Probe to count polls and record the outcome
+     */
+    public static Probe begin(By locator, String condition, int timeoutSeconds) {
+        return new Probe(locator == null ? "" : locator.toString(), condition, timeoutSeconds);
+    }
+
+    /**
+     * Check if waits need a probe: profiling is enabled or a TestDeadline runs on this thread
+     * Without either, wait implementations run the plain condition and build no description.
+     * @return true if waits are recorded
+     */
+    public static boolean isRecording() {
+        return ConfigManager.isWaitProfileEnabled() || TestDeadline.current() != null;
+    }
+
+    /**
+     * Run a wait and record it (the condition runs as it is if nothing is recorded)
+     * @param locator locator waited for, null for conditions without locator
+     * @param name readable condition name
+     * @param timeoutSeconds timeout in seconds
+     * @param condition condition the wait evaluates
+     * @param wait runs the counting condition, e.g. webDriverWait::until
+     * @return result of the wait
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T profile(By locator, String name, int timeoutSeconds, Function<? super WebDriver, T> condition,
+                                Function<Function<WebDriver, T>, T> wait) {
+        if (!isRecording()) {
+            // A function of any WebDriver is a function of WebDriver: run it without a probe
+            return wait.apply((Function<WebDriver, T>) condition);
+        }
+        Probe probe = begin(locator, name, timeoutSeconds);
+        try {
+            T value = wait.apply(probe.counting(condition));
+            probe.met();
+            return value;
+        } catch (TimeoutException e) {
+            probe.timedOut();
+            throw e;
+        } finally {
+            probe.end();
+        }
+    }
+
+    /**
+     * Readable name of a condition; lambdas only have a generated class name
+     * @param condition condition
+     * @return Description of the condition
+     */
+    public static String describe(Object condition) {
+        String text = condition.toString();
+        return text.contains("$$Lambda") ? "lambda in " + text.substring(0, text.indexOf("$$Lambda")) : text;
+    }
+
+    // ======================== REPORTING ========================
+
+    /**
+     * Get aggregated waits, the ones that cost the most time first
+     * @return Snapshot of all wait statistics
+     */
+    public static List<WaitStats> getStats() {
+        List<WaitStats> all = new ArrayList<>(stats.values());
+        all.sort(Comparator.comparingLong(WaitStats::getTotalMillis).reversed());
+        return all;
+    }
+
+    /**
+     * Get number of recorded waits
+     * @return Wait count
+     */
+    public static long getWaitCount() {
+        long count = 0;
+        for (WaitStats waitStats : stats.values()) {
+            count += waitStats.getCount();
+        }
+        return count;
+    }
+
+    /**
+     * Build the summary table: top waits by total time and by timeouts
+     * @param rows rows per ranking
+     * @return Table text
+     */
+    public static String getSummaryTable(int rows) {
+        List<WaitStats> byTime = getStats();
+        List<WaitStats> byTimeouts = new ArrayList<>(byTime);
+        byTimeouts.removeIf(waitStats -> waitStats.getTimeouts() == 0);
+        byTimeouts.sort(Comparator.comparingLong(WaitStats::getTimeouts).reversed());
+
+        long totalMillis = 0;
+        for (WaitStats waitStats : byTime) {
+            totalMillis += waitStats.getTotalMillis();
+        }
+        StringBuilder table = new StringBuilder();
+        table.append("Wait profile: ").append(getWaitCount()).append(" waits, ").append(totalMillis)
+                .append(" ms waiting\n");
+        String format = "  %-60s %6s %8s %10s %8s %8s%n";
+        table.append("Slowest waits (total time):\n");
+        table.append(String.format(format, "condition", "count", "timeouts", "total ms", "avg ms", "polls"));
+        for (WaitStats waitStats : byTime.subList(0, Math.min(rows, byTime.size()))) {
+            appendRow(table, format, waitStats);
+        }
+        if (!byTimeouts.isEmpty()) {
+            table.append("Most timeouts:\n");
+            table.append(String.format(format, "condition", "count", "timeouts", "total ms", "avg ms", "polls"));
+            for (WaitStats waitStats : byTimeouts.subList(0, Math.min(rows, byTimeouts.size()))) {
+                appendRow(table, format, waitStats);
+            }
+        }
+        return table.toString();
+    }
+
+    /**
+     * Write the profile of this run as JSON (wait.profile.path)
+     * @return Path of the written file, null if nothing was recorded or writing failed
+     */
+    public static Path writeProfile() {
+        if (stats.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("waits", getWaitCount());
+        List<Map<String, Object>> byTime = new ArrayList<>();
+        for (WaitStats waitStats : getStats()) {
+            byTime.add(waitStats.toMap());
+        }
+        profile.put("byTotalTime", byTime);
+        List<Map<String, Object>> slowestWaits = new ArrayList<>();
+        for (WaitRecord record : getSlowest()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("locator", record.locator);
+            map.put("condition", record.condition);
+            map.put("timeoutSeconds", record.timeoutSeconds);
+            map.put("durationMillis", record.durationMillis);
+            map.put("polls", record.polls);
+            map.put("outcome", record.outcome);
+            map.put("thread", record.thread);
+            slowestWaits.add(map);
+        }
+        profile.put("slowestWaits", slowestWaits);
+
+        Path path = Paths.get(ConfigManager.getWaitProfilePath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                gson.toJson(profile, writer);
+            }
+            logger.info("Wait profile written to " + path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            logger.warn("Could not write wait profile: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Forget all recorded waits
+     */
+    public static void reset() {
+        stats.clear();
+        synchronized (slowest) {
+            slowest.clear();
+        }
+    }
+
+    private static void record(WaitRecord record) {
+        String key = record.locator + "|" + record.condition;
+        stats.computeIfAbsent(key, k -> new WaitStats(record.locator, record.condition)).add(record);
+        synchronized (slowest) {
+            slowest.add(record);
+            if (slowest.size() > SLOWEST_KEPT) {
+                slowest.poll();
+            }
+        }
+    }
+
+    private static List<WaitRecord> getSlowest() {
+        List<WaitRecord> records;
+        synchronized (slowest) {
+            records = new ArrayList<>(slowest);
+        }
+        records.sort(Comparator.comparingLong(WaitRecord::getDurationMillis).reversed());
+        return records;
+    }
+
+    private static void appendRow(StringBuilder table, String format, WaitStats waitStats) {
+        String name = waitStats.getCondition();
+        if (name.length() > 60) {
+            name = name.substring(0, 57) + "...";
+        }
+        table.append(String.format(format, name, waitStats.getCount(), waitStats.getTimeouts(),
+                waitStats.getTotalMillis(), waitStats.getAverageMillis(),
+                String.format("%.1f", waitStats.getAveragePolls())));
+    }
+}
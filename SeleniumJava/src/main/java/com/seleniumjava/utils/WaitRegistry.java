@@ -0,0 +1,135 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * WaitRegistry keeps configured wait objects per driver so wait calls do not build a new wait every time
+ *
+ * Two kinds of waits are cached per driver:
+ *   wait(driver, seconds)                       - WebDriverWait (500 ms polling, ignores NotFoundException)
+ *   fluentWait(driver, seconds, pollingSeconds) - FluentWait ignoring NoSuchElement/StaleElementReference
+ * One instance serves every WaitUtils call on a driver, so its configuration must never change:
+ * withTimeout(), pollingEvery(), ignoring() or withMessage() on a cached wait would reconfigure every
+ * later wait of the session. The lookups are therefore only visible to WaitUtils; code that needs a
+ * differently configured wait builds its own.
+ * Lookups are allocation free for timeouts up to MAX_CACHED_SECONDS; longer timeouts build a new wait.
+ *
+ * Entries are dropped when the session is released through DriverRegistry, or with clear().
+ */
+public class WaitRegistry {
+    private static final int MAX_CACHED_SECONDS = 120;
+    private static final int MAX_CACHED_POLLING_SECONDS = 10;
+    // Safety net for sessions that are quit without going through DriverRegistry
+    private static final int MAX_DRIVERS = 256;
+    private static final Map<WebDriver, DriverWaits> registry = new ConcurrentHashMap<>();
+
+    /**
+     * Waits configured for one driver, indexed by timeout (and polling) seconds
+     */
+    private static class DriverWaits {
+        private final WebDriver driver;
+        private final AtomicReferenceArray<WebDriverWait> waits = new AtomicReferenceArray<>(MAX_CACHED_SECONDS + 1);
+        private final AtomicReferenceArray<AtomicReferenceArray<FluentWait<WebDriver>>> fluentWaits =
+                new AtomicReferenceArray<>(MAX_CACHED_SECONDS + 1);
+
+        private DriverWaits(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private WebDriverWait wait(int seconds) {
+            WebDriverWait wait = waits.get(seconds);
+            if (wait == null) {
+                waits.compareAndSet(seconds, null, new WebDriverWait(driver, Duration.ofSeconds(seconds)));
+                wait = waits.get(seconds);
+            }
+            return wait;
+        }
+
+        private FluentWait<WebDriver> fluentWait(int seconds, int pollingSeconds) {
+            AtomicReferenceArray<FluentWait<WebDriver>> row = fluentWaits.get(seconds);
+            if (row == null) {
+                fluentWaits.compareAndSet(seconds, null, new AtomicReferenceArray<>(MAX_CACHED_POLLING_SECONDS + 1));
+                row = fluentWaits.get(seconds);
+            }
+            FluentWait<WebDriver> wait = row.get(pollingSeconds);
+            if (wait == null) {
+                row.compareAndSet(pollingSeconds, null, newFluentWait(driver, seconds, pollingSeconds));
+                wait = row.get(pollingSeconds);
+            }
+            return wait;
+        }
+    }
+
+    /**
+     * Get the WebDriverWait of a driver for a timeout
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout in seconds
+     * @return Shared WebDriverWait, only to be used with until()
+     */
+    static WebDriverWait wait(WebDriver driver, int timeoutSeconds) {
+        if (timeoutSeconds < 0 || timeoutSeconds > MAX_CACHED_SECONDS) {
+            return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        }
+        return waitsOf(driver).wait(timeoutSeconds);
+    }
+
+    /**
+     * Get the FluentWait of a driver for a timeout and polling interval
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout in seconds
+     * @param pollingSeconds polling interval in seconds
+     * @return Shared FluentWait, only to be used with until()
+     */
+    static FluentWait<WebDriver> fluentWait(WebDriver driver, int timeoutSeconds, int pollingSeconds) {
+        if (timeoutSeconds < 0 || timeoutSeconds > MAX_CACHED_SECONDS
+                || pollingSeconds < 0 || pollingSeconds > MAX_CACHED_POLLING_SECONDS) {
+            return newFluentWait(driver, timeoutSeconds, pollingSeconds);
+        }
+        return waitsOf(driver).fluentWait(timeoutSeconds, pollingSeconds);
+    }
+
+    /**
+     * Drop the cached waits of a driver
+     * @param driver WebDriver instance
+     */
+    public static void clear(WebDriver driver) {
+        if (driver != null) {
+            registry.remove(driver);
+        }
+    }
+
+    /**
+     * Get number of drivers with cached waits
+     * @return Registry size
+     */
+    public static int size() {
+        return registry.size();
+    }
+
+    private static DriverWaits waitsOf(WebDriver driver) {
+        DriverWaits waits = registry.get(driver);
+        if (waits == null) {
+            if (registry.size() >= MAX_DRIVERS) {
+                registry.clear();
+            }
+            waits = registry.computeIfAbsent(driver, DriverWaits::new);
+        }
+        return waits;
+    }
+
+    private static FluentWait<WebDriver> newFluentWait(WebDriver driver, int timeoutSeconds, int pollingSeconds) {
+        return new FluentWait<>(driver)
+                .withTimeout(Duration.ofSeconds(timeoutSeconds))
+                .pollingEvery(Duration.ofSeconds(pollingSeconds))
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class);
+    }
+}
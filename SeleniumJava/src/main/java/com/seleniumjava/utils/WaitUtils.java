@@ -3,6 +3,7 @@ package com.seleniumjava.utils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -43,8 +44,10 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementVisible(driver, locator, timeoutSeconds);
+        }
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
     /**
@@ -55,8 +58,10 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementClickable(driver, locator, timeoutSeconds);
+        }
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.elementToBeClickable(locator));
     }
     
     /**
@@ -67,8 +72,10 @@ public class WaitUtils {
      * @return WebElement
      */
     public static WebElement waitForElementPresent(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        if (ConfigManager.isObserverWaitMode()) {
+            return ObserverWait.waitForElementPresent(driver, locator, timeoutSeconds);
+        }
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.presenceOfElementLocated(locator));
     }
     
     /**
@@ -79,8 +86,7 @@ public class WaitUtils {
      * @return true if invisible
      */
     public static boolean waitForElementInvisible(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
     
     /**
@@ -91,8 +97,7 @@ public class WaitUtils {
      * @return true if selected
      */
     public static boolean waitForElementSelected(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.elementToBeSelected(locator));
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.elementToBeSelected(locator));
     }
     
     /**
@@ -104,8 +109,7 @@ public class WaitUtils {
      * @return true if text present
      */
     public static boolean waitForTextPresent(WebDriver driver, By locator, String text, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
     
     /**
@@ -116,8 +120,7 @@ public class WaitUtils {
      * @return true if title contains text
      */
     public static boolean waitForTitleContains(WebDriver driver, String title, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.titleContains(title));
+        return until(driver, timeoutSeconds, ExpectedConditions.titleContains(title));
     }
     
     /**
@@ -128,8 +131,7 @@ public class WaitUtils {
      * @return true if URL contains fragment
      */
     public static boolean waitForUrlContains(WebDriver driver, String urlFragment, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.urlContains(urlFragment));
+        return until(driver, timeoutSeconds, ExpectedConditions.urlContains(urlFragment));
     }
     
     /**
@@ -139,8 +141,7 @@ public class WaitUtils {
      * @return Alert object
      */
     public static Alert waitForAlert(WebDriver driver, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.alertIsPresent());
+        return until(driver, timeoutSeconds, ExpectedConditions.alertIsPresent());
     }
     
     /**
@@ -151,8 +152,7 @@ public class WaitUtils {
      * @return WebDriver
      */
     public static WebDriver waitForFrameAndSwitch(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
     }
     
     /**
@@ -163,8 +163,7 @@ public class WaitUtils {
      * @return true if condition met
      */
     public static boolean waitForNumberOfWindows(WebDriver driver, int numberOfWindows, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.numberOfWindowsToBe(numberOfWindows));
+        return until(driver, timeoutSeconds, ExpectedConditions.numberOfWindowsToBe(numberOfWindows));
     }
     
     /**
@@ -178,14 +177,58 @@ public class WaitUtils {
      */
     public static boolean waitForAttributeContains(WebDriver driver, By locator, 
                                                    String attribute, String value, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
+        return until(driver, locator, timeoutSeconds, ExpectedConditions.attributeContains(locator, attribute, value));
+    }
+    
+    /**
+     * Wait for a condition with the driver's shared WebDriverWait (see WaitRegistry)
+     * @param driver WebDriver instance
+     * @param timeoutSeconds timeout in seconds
+     * @param condition condition to wait for
+     * @return result of condition
+     */
+    public static <T> T until(WebDriver driver, int timeoutSeconds, Function<? super WebDriver, T> condition) {
+        return until(driver, null, timeoutSeconds, condition);
+    }
+    
+    /**
+     * Wait for a condition on a locator using the driver's shared WebDriverWait
+     * The wait is recorded by WaitProfiler under the locator and limited by the test's TestDeadline.
+     * @param driver WebDriver instance
+     * @param locator By locator the condition is about (may be null)
+     * @param timeoutSeconds timeout in seconds
+     * @param condition condition to wait for
+     * @return result of condition
+     */
+    public static <T> T until(WebDriver driver, By locator, int timeoutSeconds,
+                              Function<? super WebDriver, T> condition) {
+        if (!WaitProfiler.isRecording()) {
+            // Nothing to record and no deadline to clamp to: the shared wait runs the condition as it is
+            return WaitRegistry.wait(driver, timeoutSeconds).until(condition);
+        }
+        String name = WaitProfiler.describe(condition);
+        long ownMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        long timeoutMillis = TestDeadline.timeoutMillis(ownMillis, name);
+        // Only waits cut short by the deadline need their own instance
+        WebDriverWait wait = timeoutMillis < ownMillis
+                ? new WebDriverWait(driver, Duration.ofMillis(timeoutMillis))
+                : WaitRegistry.wait(driver, timeoutSeconds);
+        try {
+            return WaitProfiler.profile(locator, name, timeoutSeconds, condition, wait::until);
+        } catch (TimeoutException e) {
+            if (timeoutMillis < ownMillis) {
+                throw TestDeadline.exceeded(name, e);
+            }
+            throw e;
+        }
     }
     
     // ======================== FLUENT WAIT ========================
     
     /**
      * Create Fluent Wait with custom conditions
+     * Returns a new instance the caller may reconfigure; the fluentWaitFor* methods use shared waits
+     * or adaptive polling (see AdaptivePolling).
      * @param driver WebDriver instance
      * @param timeoutSeconds timeout in seconds
      * @param pollingIntervalSeconds polling interval in seconds
@@ -211,9 +254,7 @@ public class WaitUtils {
      */
     public static WebElement fluentWaitForElement(WebDriver driver, By locator, 
                                                  int timeoutSeconds, int pollingIntervalSeconds) {
-        FluentWait<WebDriver> wait = createFluentWait(driver, timeoutSeconds, pollingIntervalSeconds);
-        
-        return wait.until(new Function<WebDriver, WebElement>() {
+        Function<WebDriver, WebElement> visible = new Function<WebDriver, WebElement>() {
             public WebElement apply(WebDriver driver) {
                 WebElement element = driver.findElement(locator);
                 if (element.isDisplayed()) {
@@ -222,7 +263,8 @@ public class WaitUtils {
                 }
                 return null;
             }
-        });
+        };
+        return fluentUntil(driver, locator, "visible " + locator, timeoutSeconds, pollingIntervalSeconds, visible);
     }
     
     /**
@@ -235,9 +277,7 @@ public class WaitUtils {
      */
     public static WebElement fluentWaitForClickable(WebDriver driver, By locator, 
                                                    int timeoutSeconds, int pollingIntervalSeconds) {
-        FluentWait<WebDriver> wait = createFluentWait(driver, timeoutSeconds, pollingIntervalSeconds);
-        
-        return wait.until(new Function<WebDriver, WebElement>() {
+        Function<WebDriver, WebElement> clickable = new Function<WebDriver, WebElement>() {
             public WebElement apply(WebDriver driver) {
                 WebElement element = driver.findElement(locator);
                 if (element.isDisplayed() && element.isEnabled()) {
@@ -246,7 +286,8 @@ public class WaitUtils {
                 }
                 return null;
             }
-        });
+        };
+        return fluentUntil(driver, locator, "clickable " + locator, timeoutSeconds, pollingIntervalSeconds, clickable);
     }
     
     /**
@@ -261,24 +302,105 @@ public class WaitUtils {
                                               Function<WebDriver, T> condition,
                                               int timeoutSeconds, 
                                               int pollingIntervalSeconds) {
-        FluentWait<WebDriver> wait = createFluentWait(driver, timeoutSeconds, pollingIntervalSeconds);
-        return wait.until(condition);
+        // Conditions have no readable name; the class identifies the lambda/condition type
+        return fluentUntil(driver, null, condition.getClass().getName(), timeoutSeconds, pollingIntervalSeconds,
+                condition);
+    }
+    
+    /**
+     * Run a fluent wait with the shared fixed-interval FluentWait, or with AdaptivePolling
+     * when wait.polling.adaptive=true (the polling interval then caps the backoff)
+     * @param driver WebDriver instance
+     * @param locator By locator the condition is about (may be null)
+     * @param key locator or condition the adaptive polling history is kept for
+     * @param timeoutSeconds timeout in seconds
+     * @param pollingIntervalSeconds polling interval in seconds
+     * @param condition condition to wait for
+     * @return result of condition
+     */
+    private static <T> T fluentUntil(WebDriver driver, By locator, String key, int timeoutSeconds,
+                                     int pollingIntervalSeconds, Function<? super WebDriver, T> condition) {
+        long ownMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        long timeoutMillis = TestDeadline.timeoutMillis(ownMillis, key);
+        try {
+            if (ConfigManager.isWaitPollingAdaptive()) {
+                return WaitProfiler.profile(locator, key, timeoutSeconds, condition,
+                        counting -> AdaptivePolling.untilMillis(driver, key, timeoutMillis,
+                                TimeUnit.SECONDS.toMillis(pollingIntervalSeconds), counting));
+            }
+            if (!WaitProfiler.isRecording()) {
+                return WaitRegistry.fluentWait(driver, timeoutSeconds, pollingIntervalSeconds).until(condition);
+            }
+            FluentWait<WebDriver> wait = timeoutMillis < ownMillis
+                    ? createFluentWait(driver, timeoutSeconds, pollingIntervalSeconds)
+                            .withTimeout(Duration.ofMillis(timeoutMillis))
+                    : WaitRegistry.fluentWait(driver, timeoutSeconds, pollingIntervalSeconds);
+            return WaitProfiler.profile(locator, key, timeoutSeconds, condition, wait::until);
+        } catch (TimeoutException e) {
+            if (timeoutMillis < ownMillis) {
+                throw TestDeadline.exceeded(key, e);
+            }
+            throw e;
+        }
     }
     
     // ======================== THREAD SLEEP (USE SPARINGLY) ========================
     
     /**
      * Thread sleep - use only when absolutely necessary
+     * The sleep is recorded by SleepAuditor and counts against the sleep budgets.
      * @param milliseconds milliseconds to sleep
+     * @deprecated wait for a condition instead (until, waitForNetworkIdle, waitForElement*)
      */
+    @Deprecated
     public static void threadSleep(long milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-            System.out.println("Thread slept for: " + milliseconds + " ms");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.err.println("Thread sleep interrupted");
+        SleepAuditor.sleep(milliseconds);
+        System.out.println("Thread slept for: " + milliseconds + " ms");
+    }
+    
+    /**
+     * Wait until the document reached the ready state a page-load strategy stands for
+     * NORMAL waits for "complete", EAGER for "interactive" (DOM parsed), NONE returns immediately.
+     * Used after navigations in sessions that run with the eager or none strategy.
+     * @param driver WebDriver instance
+     * @param strategy readiness to wait for
+     * @param timeoutSeconds timeout in seconds
+     */
+    public static void waitForDocumentReady(WebDriver driver, PageLoadStrategy strategy, int timeoutSeconds) {
+        if (strategy == PageLoadStrategy.NONE) {
+            return;
         }
+        boolean complete = strategy == PageLoadStrategy.NORMAL;
+        until(driver, timeoutSeconds, webDriver -> {
+            Object state = ((JavascriptExecutor) webDriver).executeScript("return document.readyState");
+            return "complete".equals(state) || (!complete && "interactive".equals(state));
+        });
+    }
+    
+    /**
+     * Wait until no fetch/XHR request has been in flight for the quiet period
+     * Use instead of a sleep after actions that load data in the background.
+     * @param driver WebDriver instance
+     * @param quietPeriodMillis time without network activity in milliseconds
+     * @param timeoutSeconds timeout in seconds
+     * @return true if the network went idle
+     * @see NetworkIdle
+     */
+    public static boolean waitForNetworkIdle(WebDriver driver, long quietPeriodMillis, int timeoutSeconds) {
+        return NetworkIdle.waitForIdle(driver, quietPeriodMillis, timeoutSeconds);
+    }
+    
+    /**
+     * Wait until an element is visible and has stopped moving (no running transition, stable bounding box)
+     * Use instead of a sleep before clicking elements that slide or fade in.
+     * @param driver WebDriver instance
+     * @param locator By locator
+     * @param timeoutSeconds timeout in seconds
+     * @return WebElement
+     * @see SettledWait
+     */
+    public static WebElement waitForElementSettled(WebDriver driver, By locator, int timeoutSeconds) {
+        return SettledWait.waitForSettled(driver, locator, timeoutSeconds);
     }
     
     /**
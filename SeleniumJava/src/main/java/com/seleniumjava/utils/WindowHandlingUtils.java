@@ -1,5 +1,6 @@
 package com.seleniumjava.utils;
 
+import com.seleniumjava.driver.BrowserContextManager;
 import org.openqa.selenium.*;
 import java.util.*;
 
@@ -20,11 +21,12 @@ public class WindowHandlingUtils {
     
     /**
      * Get all window handles
+     * With browser contexts only the windows of the session's own context are returned
      * @param driver WebDriver instance
      * @return Set of all window handles
      */
     public static Set<String> getAllWindowHandles(WebDriver driver) {
-        return driver.getWindowHandles();
+        return BrowserContextManager.getWindowHandles(driver);
     }
     
     /**
@@ -33,7 +35,7 @@ public class WindowHandlingUtils {
      * @return number of open windows/tabs
      */
     public static int getWindowCount(WebDriver driver) {
-        return driver.getWindowHandles().size();
+        return getAllWindowHandles(driver).size();
     }
     
     /**
@@ -43,7 +45,7 @@ public class WindowHandlingUtils {
      */
     public static void switchToWindowByIndex(WebDriver driver, int index) {
         try {
-            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            List<String> handles = new ArrayList<>(getAllWindowHandles(driver));
             
             if (index < 0 || index >= handles.size()) {
                 System.err.println("Invalid window index: " + index);
@@ -64,7 +66,7 @@ public class WindowHandlingUtils {
      */
     public static void switchToParentWindow(WebDriver driver) {
         try {
-            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            List<String> handles = new ArrayList<>(getAllWindowHandles(driver));
             driver.switchTo().window(handles.get(0));
             System.out.println("Switched to parent window");
         } catch (Exception e) {
@@ -79,7 +81,7 @@ public class WindowHandlingUtils {
      */
     public static void switchToChildWindow(WebDriver driver) {
         try {
-            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            List<String> handles = new ArrayList<>(getAllWindowHandles(driver));
             driver.switchTo().window(handles.get(handles.size() - 1));
             System.out.println("Switched to child window");
         } catch (Exception e) {
@@ -98,7 +100,7 @@ public class WindowHandlingUtils {
         try {
             String currentHandle = driver.getWindowHandle();
             
-            for (String handle : driver.getWindowHandles()) {
+            for (String handle : getAllWindowHandles(driver)) {
                 driver.switchTo().window(handle);
                 if (driver.getTitle().contains(titleContains)) {
                     System.out.println("Switched to window with title: " + titleContains);
@@ -127,7 +129,7 @@ public class WindowHandlingUtils {
         try {
             String currentHandle = driver.getWindowHandle();
             
-            for (String handle : driver.getWindowHandles()) {
+            for (String handle : getAllWindowHandles(driver)) {
                 driver.switchTo().window(handle);
                 if (driver.getCurrentUrl().contains(urlContains)) {
                     System.out.println("Switched to window with URL: " + urlContains);
@@ -166,9 +168,9 @@ public class WindowHandlingUtils {
      */
     public static void closeAllWindowsExceptParent(WebDriver driver) {
         try {
-            String parentHandle = new ArrayList<>(driver.getWindowHandles()).get(0);
+            String parentHandle = new ArrayList<>(getAllWindowHandles(driver)).get(0);
             
-            for (String handle : driver.getWindowHandles()) {
+            for (String handle : getAllWindowHandles(driver)) {
                 if (!handle.equals(parentHandle)) {
                     driver.switchTo().window(handle);
                     driver.close();
@@ -191,7 +193,7 @@ public class WindowHandlingUtils {
      */
     public static String getWindowTitle(WebDriver driver, int index) {
         try {
-            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            List<String> handles = new ArrayList<>(getAllWindowHandles(driver));
             String currentHandle = driver.getWindowHandle();
             
             driver.switchTo().window(handles.get(index));
@@ -214,7 +216,7 @@ public class WindowHandlingUtils {
      */
     public static String getWindowURL(WebDriver driver, int index) {
         try {
-            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            List<String> handles = new ArrayList<>(getAllWindowHandles(driver));
             String currentHandle = driver.getWindowHandle();
             
             driver.switchTo().window(handles.get(index));
@@ -0,0 +1,184 @@
+package com.seleniumjava.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * XPathToCss translates simple XPath expressions into CSS selector candidates for LocatorProfiler
+ *
+ * Supported: // and / steps with tag names or *, and predicates made of
+ *   @attr='v'   contains(@attr, 'v')   starts-with(@attr, 'v')   @attr   joined with "and",
+ *   and a position ([2] -> :nth-of-type(2)) as the only predicate of a step.
+ * Anything else (text(), axes, functions, unions, absolute paths) is not translated.
+ *
+ * The exact translation matches the same elements as the XPath on any page. With classShorthand a class
+ * equality becomes a class selector (.g instead of [class="g"]), which also matches elements carrying
+ * further classes: LocatorProfiler only reports it, it never substitutes it.
+ */
+final class XPathToCss {
+    private static final Pattern EQUALS = Pattern.compile("@([\\w-]+)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")");
+    private static final Pattern FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@([\\w-]+)\\s*,\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\)");
+    private static final Pattern EXISTS = Pattern.compile("@([\\w-]+)");
+    private static final Pattern POSITION = Pattern.compile("\\d+");
+    private static final Pattern IDENTIFIER = Pattern.compile("-?[A-Za-z_][\\w-]*");
+
+    private XPathToCss() {
+    }
+
+    /**
+     * Translate an XPath into a CSS selector
+     * @param xpath XPath expression
+     * @param classShorthand write class equality as .class (not exact, see above)
+     * @return CSS selector, null if the expression cannot be translated
+     */
+    static String translate(String xpath, boolean classShorthand) {
+        xpath = xpath.trim();
+        if (!xpath.startsWith("//")) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        int i = 0;
+        while (i < xpath.length()) {
+            String combinator;
+            if (xpath.startsWith("//", i)) {
+                combinator = " ";
+                i += 2;
+            } else if (xpath.charAt(i) == '/') {
+                combinator = " > ";
+                i++;
+            } else {
+                return null;
+            }
+            int start = i;
+            while (i < xpath.length() && (Character.isLetterOrDigit(xpath.charAt(i)) || xpath.charAt(i) == '-'
+                    || xpath.charAt(i) == '_' || xpath.charAt(i) == '*')) {
+                i++;
+            }
+            String tag = xpath.substring(start, i);
+            if (tag.isEmpty() || (i < xpath.length() && xpath.charAt(i) == ':')) {
+                // ., .., @attr, text(), axis::
+                return null;
+            }
+            StringBuilder step = new StringBuilder(tag.equals("*") ? "" : tag);
+            boolean first = true;
+            while (i < xpath.length() && xpath.charAt(i) == '[') {
+                int end = closingBracket(xpath, i);
+                if (end < 0) {
+                    return null;
+                }
+                String predicate = xpath.substring(i + 1, end).trim();
+                String translated;
+                if (POSITION.matcher(predicate).matches()) {
+                    // Positions filter what earlier predicates left: only equivalent as the first predicate
+                    if (!first || (end + 1 < xpath.length() && xpath.charAt(end + 1) == '[')) {
+                        return null;
+                    }
+                    translated = (tag.equals("*") ? ":nth-child(" : ":nth-of-type(") + predicate + ")";
+                } else {
+                    translated = predicate(predicate, classShorthand);
+                }
+                if (translated == null) {
+                    return null;
+                }
+                step.append(translated);
+                first = false;
+                i = end + 1;
+            }
+            if (step.length() == 0) {
+                step.append('*');
+            }
+            if (css.length() > 0) {
+                css.append(combinator);
+            }
+            css.append(step);
+        }
+        return css.toString();
+    }
+
+    private static String predicate(String predicate, boolean classShorthand) {
+        StringBuilder css = new StringBuilder();
+        for (String term : splitAnd(predicate)) {
+            Matcher matcher;
+            if ((matcher = EQUALS.matcher(term)).matches()) {
+                String attribute = matcher.group(1);
+                String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+                if (attribute.equals("id") && IDENTIFIER.matcher(value).matches()) {
+                    css.append('#').append(value);
+                } else if (classShorthand && attribute.equals("class") && IDENTIFIER.matcher(value).matches()) {
+                    css.append('.').append(value);
+                } else {
+                    css.append('[').append(attribute).append('=').append(quote(value)).append(']');
+                }
+            } else if ((matcher = FUNCTION.matcher(term)).matches()) {
+                String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+                // contains(@a, '') is true even without @a (string() of nothing is ''): no constraint
+                if (!value.isEmpty()) {
+                    css.append('[').append(matcher.group(2)).append(matcher.group(1).equals("contains") ? "*=" : "^=")
+                            .append(quote(value)).append(']');
+                }
+            } else if ((matcher = EXISTS.matcher(term)).matches()) {
+                css.append('[').append(matcher.group(1)).append(']');
+            } else {
+                return null;
+            }
+        }
+        return css.toString();
+    }
+
+    /**
+     * Split a predicate on "and" outside of quotes and parentheses
+     */
+    private static List<String> splitAnd(String predicate) {
+        List<String> terms = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < predicate.length(); i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && predicate.startsWith(" and ", i)) {
+                terms.add(predicate.substring(start, i).trim());
+                start = i + 5;
+                i += 4;
+            }
+        }
+        terms.add(predicate.substring(start).trim());
+        return terms;
+    }
+
+    private static int closingBracket(String xpath, int open) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = open; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,100 @@
+package com.seleniumjava.benchmarks;
+
+import com.seleniumjava.utils.LocatorTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a By from a template in a data-driven loop
+ *   replaceLoop    - the former DynamicLocatorUtils path: String.replace per placeholder
+ *   stringFormat   - String.format with %s placeholders
+ *   templateFormat - LocatorTemplate parsed once, new By per call
+ *   templateBy     - LocatorTemplate with its By cache
+ * distinctRows below the template cache size (256) shows the hot-value case, above it the LRU churn.
+ *
+ * Run (gc.alloc.rate.norm shows bytes allocated per call):
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *       -Dexec.args="-cp %classpath com.seleniumjava.benchmarks.LocatorTemplateBenchmark"
+ * (exec:exec so the forked JVM gets the test classpath, see WaitRegistryBenchmark)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocatorTemplateBenchmark {
+    private static final String TEMPLATE = "//table[@id='users']//tr[td[1]='{0}']//button[text()='{1}']";
+    private static final String FORMAT = "//table[@id='users']//tr[td[1]='%s']//button[text()='%s']";
+    private static final String[] ACTIONS = {"Edit", "Delete", "View"};
+
+    @Param({"16", "1024"})
+    public int distinctRows;
+
+    private LocatorTemplate template;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        template = LocatorTemplate.xpath(TEMPLATE);
+        names = new String[distinctRows];
+        for (int i = 0; i < distinctRows; i++) {
+            names[i] = "User " + i;
+        }
+    }
+
+    @Benchmark
+    public By replaceLoop() {
+        String[] values = nextValues();
+        String xpath = TEMPLATE;
+        for (int i = 0; i < values.length; i++) {
+            xpath = xpath.replace("{" + i + "}", values[i]);
+        }
+        return By.xpath(xpath);
+    }
+
+    @Benchmark
+    public By stringFormat() {
+        String[] values = nextValues();
+        return By.xpath(String.format(FORMAT, values[0], values[1]));
+    }
+
+    @Benchmark
+    public By templateFormat() {
+        return By.xpath(template.format(nextValues()));
+    }
+
+    @Benchmark
+    public By templateBy() {
+        return template.by(nextValues());
+    }
+
+    private String[] nextValues() {
+        int row = next;
+        next = (next + 1) % names.length;
+        return new String[]{names[row], ACTIONS[row % ACTIONS.length]};
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LocatorTemplateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.seleniumjava.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal in-memory WebDriver for benchmarks
+ * Answers instantly without a browser so benchmarks measure framework overhead only.
+ */
+public class StubWebDriver implements WebDriver {
+    private static final String TITLE = "Stub Page";
+    private static final String URL = "about:stub";
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return URL;
+    }
+
+    @Override
+    public String getTitle() {
+        return TITLE;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        throw new NoSuchElementException("StubWebDriver has no elements: " + by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html><head><title>" + TITLE + "</title></head><body></body></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub-window");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub-window";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo() is not supported by StubWebDriver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate() is not supported by StubWebDriver");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage() is not supported by StubWebDriver");
+    }
+}
@@ -0,0 +1,67 @@
+package com.seleniumjava.benchmarks;
+
+import com.seleniumjava.utils.WaitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a satisfied wait call: new WebDriverWait per call vs. WaitUtils with the shared wait from WaitRegistry
+ * The condition is met on the first poll, so the numbers are pure framework overhead.
+ *
+ * Run (gc.alloc.rate.norm shows bytes allocated per call):
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *       -Dexec.args="-cp %classpath com.seleniumjava.benchmarks.WaitRegistryBenchmark"
+ * (exec:exec, not exec:java: the forked benchmark JVM inherits java.class.path, which under exec:java
+ * is only the Maven launcher and lacks JMH's ForkedMain and the generated benchmark classes)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitRegistryBenchmark {
+    private WebDriver driver;
+    private ExpectedCondition<Boolean> condition;
+
+    @Setup
+    public void setup() {
+        driver = new StubWebDriver();
+        condition = ExpectedConditions.titleContains("Stub");
+    }
+
+    @Benchmark
+    public Boolean newWaitPerCall() {
+        return new WebDriverWait(driver, Duration.ofSeconds(10)).until(condition);
+    }
+
+    @Benchmark
+    public boolean waitUtils() {
+        return WaitUtils.waitForTitleContains(driver, "Stub", 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WaitRegistryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -1,14 +1,35 @@
 package com.seleniumjava.listeners;
 
+import com.seleniumjava.driver.BrowserProfileMetrics;
+import com.seleniumjava.driver.DriverRegistry;
+import com.seleniumjava.driver.PageLoadTimer;
+import com.seleniumjava.driver.SessionPrefetcher;
+import com.seleniumjava.driver.SessionWatchdog;
+import com.seleniumjava.utils.AdaptivePolling;
+import com.seleniumjava.utils.ConfigManager;
+import com.seleniumjava.utils.ElementCache;
+import com.seleniumjava.utils.ElementLookup;
+import com.seleniumjava.utils.LocatorProfiler;
 import com.seleniumjava.utils.ScreenshotUtils;
+import com.seleniumjava.utils.SleepAuditor;
+import com.seleniumjava.utils.TestDeadline;
+import com.seleniumjava.utils.WaitProfiler;
 import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import org.testng.annotations.CustomAttribute;
+import org.testng.annotations.Test;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TestNG Listener for capturing test execution events
  * Automatically captures screenshots on test failure
+ * Audits hard sleeps per test method and enforces the sleep budgets (see SleepAuditor)
+ * Runs every test method under its TestDeadline (deadline.seconds attribute or test.deadline.seconds)
  * 
  * Usage in testng.xml:
  * <listeners>
@@ -19,7 +40,46 @@ import org.testng.ITestResult;
  * @Listeners(TestListener.class)
  * public class YourTestClass extends BaseTest { }
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
+
+    /**
+     * Invoked before every method; starts the sleep account and the deadline of test methods
+     */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            String testName = testResult.getTestClass().getRealClass().getSimpleName() + "."
+                    + testResult.getMethod().getMethodName();
+            SleepAuditor.beginTest(testName);
+            TestDeadline.begin(testName, TimeUnit.SECONDS.toMillis(getDeadlineSeconds(testResult)));
+        }
+    }
+
+    /**
+     * Invoked after every method; checks the sleep budgets of test methods
+     * With sleep.budget.fail=true a passing test over budget is marked as failed.
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        TestDeadline deadline = TestDeadline.end();
+        if (deadline != null && deadline.isExceeded() && testResult.getStatus() == ITestResult.SUCCESS) {
+            // Ran out of budget after its last wait
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Deadline exceeded\n  " + deadline.getBreakdown()));
+        }
+        String violation = SleepAuditor.checkBudget(SleepAuditor.endTest());
+        if (violation == null) {
+            return;
+        }
+        System.out.println("  ⚠ Sleep budget exceeded: " + violation);
+        if (ConfigManager.isSleepBudgetFail() && testResult.getStatus() == ITestResult.SUCCESS) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Sleep budget exceeded: " + violation));
+        }
+    }
 
     /**
      * Invoked when test starts
@@ -117,12 +177,56 @@ public class TestListener implements ITestListener {
         System.out.println("║  ⊘ Skipped: " + context.getSkippedTests().size());
         System.out.println("║  Duration: " + (context.getEndDate().getTime() - context.getStartDate().getTime()) + "ms");
         System.out.println("╚═══════════════════════════════════════════════════════════════════════╝\n");
+
+        String profileSummary = BrowserProfileMetrics.getSummary();
+        if (!profileSummary.isEmpty()) {
+            System.out.println("Browser startup by profile:\n" + profileSummary);
+        }
+        if (ConfigManager.isDriverPrefetchEnabled()) {
+            System.out.println(SessionPrefetcher.getSummary());
+        }
+        if (PageLoadTimer.getMeasuredCount() > 0) {
+            System.out.println(PageLoadTimer.getSummary());
+        }
+        if (ConfigManager.isDriverWatchdogEnabled()) {
+            System.out.println(SessionWatchdog.getSummary());
+        }
+        if (ConfigManager.isWaitPollingAdaptive()) {
+            System.out.println("Adaptive polling by locator:");
+            AdaptivePolling.getAllStats().forEach(stats -> System.out.println("  " + stats));
+        }
+        if (ConfigManager.isZeroImplicitWait()) {
+            System.out.println(ElementLookup.getSummary());
+        }
+        if (ElementCache.isEnabled()) {
+            System.out.println(ElementCache.getSummary());
+        }
+        if (SleepAuditor.getTotalSleeps() > 0) {
+            System.out.println(SleepAuditor.getSummary(10));
+        }
+        String runViolation = SleepAuditor.getRunBudgetViolation();
+        if (runViolation != null) {
+            System.out.println("  ⚠ Sleep budget exceeded: " + runViolation);
+        }
+        if (WaitProfiler.getWaitCount() > 0) {
+            WaitProfiler.writeProfile();
+            System.out.println(WaitProfiler.getSummaryTable(10));
+        }
+        if (LocatorProfiler.getLocatorCount() > 0) {
+            LocatorProfiler.writeReport();
+            System.out.println(LocatorProfiler.getReport(10));
+        }
     }
 
     /**
-     * Extract WebDriver from test instance using reflection
+     * Get the WebDriver of the failed test
+     * Looks up the session bound to the test thread first, then falls back to reflection
      */
     private WebDriver getDriverFromTestInstance(Object testInstance) {
+        WebDriver boundDriver = DriverRegistry.getDriver();
+        if (boundDriver != null) {
+            return boundDriver;
+        }
         try {
             // Try to get 'driver' field from test class
             java.lang.reflect.Field driverField = testInstance.getClass().getSuperclass().getDeclaredField("driver");
@@ -139,4 +243,23 @@ public class TestListener implements ITestListener {
             }
         }
     }
+
+    /**
+     * Get the deadline of a test method
+     * @Test(attributes = @CustomAttribute(name = "deadline.seconds", values = "30")) overrides test.deadline.seconds
+     * @param testResult result of the test method
+     * @return Deadline in seconds, 0 = no deadline
+     */
+    private int getDeadlineSeconds(ITestResult testResult) {
+        Method method = testResult.getMethod().getConstructorOrMethod().getMethod();
+        Test test = method == null ? null : method.getAnnotation(Test.class);
+        if (test != null) {
+            for (CustomAttribute attribute : test.attributes()) {
+                if (attribute.name().equals(TestDeadline.ATTRIBUTE) && attribute.values().length > 0) {
+                    return Integer.parseInt(attribute.values()[0].trim());
+                }
+            }
+        }
+        return ConfigManager.getTestDeadlineSeconds();
+    }
 }
@@ -2,6 +2,7 @@ package com.seleniumjava.tests;
 
 import com.seleniumjava.base.BaseTest;
 import com.seleniumjava.pages.AdvancedPage;
+import com.seleniumjava.utils.TableData;
 import org.testng.annotations.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +15,8 @@ import java.util.*;
 public class AdvancedTest extends BaseTest {
     
     private static final Logger logger = LoggerFactory.getLogger(AdvancedTest.class);
-    private AdvancedPage advancedPage;
+    // One page object per thread so parallel="methods" runs don't share state
+    private final ThreadLocal<AdvancedPage> advancedPage = new ThreadLocal<>();
     
     /**
      * Setup test - initialize AdvancedPage
@@ -22,8 +24,8 @@ public class AdvancedTest extends BaseTest {
     @BeforeMethod
     public void setUp() {
         // Uncomment and add your test URL
-        // driver.get("https://your-advanced-test-website.com");
-        advancedPage = new AdvancedPage(driver);
+        // getDriver().get("https://your-advanced-test-website.com");
+        advancedPage.set(new AdvancedPage(getDriver()));
         logger.info("AdvancedTest setup complete");
     }
     
@@ -36,15 +38,15 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: Dropdown Selection");
         
         // Get all available options
-        List<String> countries = advancedPage.getAllCountries();
+        List<String> countries = advancedPage.get().getAllCountries();
         logger.info("Available countries: " + countries);
         
         // Select specific country
         String countryToSelect = "United States";
-        advancedPage.selectCountry(countryToSelect);
+        advancedPage.get().selectCountry(countryToSelect);
         
         // Verify selection
-        String selectedCountry = advancedPage.getSelectedCountry();
+        String selectedCountry = advancedPage.get().getSelectedCountry();
         assert selectedCountry.contains(countryToSelect) : 
             "Expected " + countryToSelect + " but got " + selectedCountry;
         
@@ -60,18 +62,11 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: File Upload");
         
         // Verify file upload element exists
-        assert advancedPage.isFileUploadAvailable() : "File upload element not found";
+        assert advancedPage.get().isFileUploadAvailable() : "File upload element not found";
         
-        // Upload file
+        // Upload file and wait for the upload to complete
         String testFilePath = "src/test/resources/testdata/sample.txt";
-        advancedPage.uploadFileAndClick(testFilePath);
-        
-        // Wait for upload to complete
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        advancedPage.get().uploadFileAndWait(testFilePath);
         
         logger.info("TEST PASSED: File upload successful");
     }
@@ -85,11 +80,11 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: Mouse Hover Actions");
         
         // Hover over element
-        advancedPage.hoverOverElement();
-        advancedPage.scrollToHoverMenu();
+        advancedPage.get().hoverOverElement();
+        advancedPage.get().scrollToHoverMenu();
         
         // Verify menu is displayed
-        boolean menuDisplayed = advancedPage.isHoverMenuDisplayed();
+        boolean menuDisplayed = advancedPage.get().isHoverMenuDisplayed();
         assert menuDisplayed : "Hover menu not displayed after hovering";
         
         logger.info("TEST PASSED: Mouse hover actions successful");
@@ -104,22 +99,22 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: Iframe Handling");
         
         // Verify iframe exists
-        assert advancedPage.doesIframeExist() : "Iframe not found on page";
+        assert advancedPage.get().doesIframeExist() : "Iframe not found on page";
         
         // Check frame count
-        int frameCount = advancedPage.getFrameCount();
+        int frameCount = advancedPage.get().getFrameCount();
         logger.info("Frame count on page: " + frameCount);
         assert frameCount > 0 : "No frames found on page";
         
         // Switch to iframe and interact
-        advancedPage.switchToIframe();
+        advancedPage.get().switchToIframe();
         logger.info("Switched to iframe");
         
         // Interact with element inside frame
-        advancedPage.clickButtonInsideFrame();
+        advancedPage.get().clickButtonInsideFrame();
         
         // Verify we switched back to main content
-        advancedPage.switchToMainContent();
+        advancedPage.get().switchToMainContent();
         logger.info("Switched back to main content");
         
         logger.info("TEST PASSED: Iframe operations successful");
@@ -134,29 +129,29 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: Window Handling");
         
         // Get initial window count
-        int initialWindowCount = advancedPage.getWindowCount();
+        int initialWindowCount = advancedPage.get().getWindowCount();
         logger.info("Initial window count: " + initialWindowCount);
         
         // Open new window
-        advancedPage.openNewWindow();
+        advancedPage.get().openNewWindow();
         
         // Get updated window count
-        int currentWindowCount = advancedPage.getWindowCount();
+        int currentWindowCount = advancedPage.get().getWindowCount();
         logger.info("Window count after opening new window: " + currentWindowCount);
         assert currentWindowCount > initialWindowCount : "New window not opened";
         
         // Switch to child window
-        advancedPage.switchToChildWindow();
+        advancedPage.get().switchToChildWindow();
         logger.info("Switched to child window");
-        String currentURL = advancedPage.getCurrentURL();
+        String currentURL = advancedPage.get().getCurrentURL();
         logger.info("Child window URL: " + currentURL);
         
         // Switch back to parent
-        advancedPage.switchToParentWindow();
+        advancedPage.get().switchToParentWindow();
         logger.info("Switched back to parent window");
         
         // Close child windows
-        advancedPage.closeChildWindows();
+        advancedPage.get().closeChildWindows();
         
         logger.info("TEST PASSED: Window handling successful");
     }
@@ -170,17 +165,17 @@ public class AdvancedTest extends BaseTest {
         logger.info("TEST: Table Operations");
         
         // Get row count
-        int rowCount = advancedPage.getTableRowCount();
+        int rowCount = advancedPage.get().getTableRowCount();
         logger.info("Table row count: " + rowCount);
         assert rowCount > 0 : "No rows found in table";
         
         // Get specific cell value
-        String cellValue = advancedPage.getTableCellValue(0, 0);
+        String cellValue = advancedPage.get().getTableCellValue(0, 0);
         logger.info("First cell value: " + cellValue);
         
-        // Get all table data
-        List<org.openqa.selenium.WebElement> tableData = advancedPage.getTableData();
-        logger.info("Total table cells: " + tableData.size());
+        // Read the whole table in one call
+        TableData table = advancedPage.get().readTable();
+        logger.info("Table headers: " + table.getHeaders() + ", rows: " + table.getRowCount());
         
         logger.info("TEST PASSED: Table operations successful");
     }
@@ -196,7 +191,7 @@ public class AdvancedTest extends BaseTest {
         // Click button by dynamic text
         String buttonText = "Submit";
         try {
-            advancedPage.clickButtonByDynamicText(buttonText);
+            advancedPage.get().clickButtonByDynamicText(buttonText);
             logger.info("Clicked button with text: " + buttonText);
         } catch (Exception e) {
             logger.info("Button not found (expected if page doesn't have it): " + buttonText);
@@ -205,7 +200,7 @@ public class AdvancedTest extends BaseTest {
         // Get element by text content
         String elementText = "Login";
         try {
-            String result = advancedPage.getElementByTextContent("button", elementText);
+            String result = advancedPage.get().getElementByTextContent("button", elementText);
             logger.info("Found element: " + result);
         } catch (Exception e) {
             logger.info("Element not found (expected): " + elementText);
@@ -224,14 +219,14 @@ public class AdvancedTest extends BaseTest {
         
         // Trigger alert
         try {
-            advancedPage.triggerAlert();
+            advancedPage.get().triggerAlert();
             
             // Get alert text
-            String alertMsg = advancedPage.getAlertMessage();
+            String alertMsg = advancedPage.get().getAlertMessage();
             logger.info("Alert message: " + alertMsg);
             
             // Accept alert
-            advancedPage.acceptAlertDialog();
+            advancedPage.get().acceptAlertDialog();
             logger.info("Alert accepted");
         } catch (Exception e) {
             logger.info("Alert test skipped (no alert triggered): " + e.getMessage());
@@ -250,7 +245,7 @@ public class AdvancedTest extends BaseTest {
         
         // Check if dropdown contains specific option
         String optionToFind = "Canada";
-        boolean containsOption = advancedPage.dropdownContains(optionToFind);
+        boolean containsOption = advancedPage.get().dropdownContains(optionToFind);
         logger.info("Dropdown contains '" + optionToFind + "': " + containsOption);
         
         logger.info("TEST PASSED: Dropdown validation successful");
@@ -266,7 +261,7 @@ public class AdvancedTest extends BaseTest {
         
         // Read test data from CSV
         String csvPath = "src/test/resources/testdata/test-data.csv";
-        List<Map<String, String>> testData = advancedPage.getTestDataFromCSV(csvPath);
+        List<Map<String, String>> testData = advancedPage.get().getTestDataFromCSV(csvPath);
         
         logger.info("Test data records found: " + testData.size());
         
@@ -291,6 +286,7 @@ public class AdvancedTest extends BaseTest {
     @AfterMethod
     public void tearDown() {
         logger.info("AdvancedTest teardown");
-        // driver.quit(); // Called from BaseTest
+        // getDriver().quit(); // Called from BaseTest
+        advancedPage.remove();
     }
 }
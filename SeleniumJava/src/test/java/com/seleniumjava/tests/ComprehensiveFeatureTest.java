@@ -29,27 +29,27 @@ public class ComprehensiveFeatureTest extends BaseTest {
         System.out.println("\n[Thread: " + Thread.currentThread().getName() + "] === Test 1: Hard Assertions + Waits ===");
         
         // Navigate
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Wait for element and assert
-        WebElement searchBox = WaitUtils.waitForElementVisible(driver, By.name("q"), 10);
+        WebElement searchBox = WaitUtils.waitForElementVisible(getDriver(), By.name("q"), 10);
         AssertionUtils.assertNotNull(searchBox, "Search box should be visible");
         System.out.println("  ✓ Search box found with explicit wait");
         
         // Wait for clickable and assert
-        WebElement clickableBox = WaitUtils.waitForElementClickable(driver, By.name("q"), 10);
+        WebElement clickableBox = WaitUtils.waitForElementClickable(getDriver(), By.name("q"), 10);
         AssertionUtils.assertNotNull(clickableBox, "Search box should be clickable");
         System.out.println("  ✓ Search box is clickable");
         
         // Type and take screenshot
         searchBox.sendKeys("Selenium Parallel Testing");
-        ScreenshotUtils.takeScreenshot(driver, "Test1_AfterTyping");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test1_AfterTyping");
         System.out.println("  ✓ Screenshot captured");
         
         // Assert with title wait
-        boolean titleOk = WaitUtils.waitForTitleContains(driver, "Google", 10);
+        boolean titleOk = WaitUtils.waitForTitleContains(getDriver(), "Google", 10);
         AssertionUtils.assertTrue(titleOk, "Title should contain Google");
-        System.out.println("  ✓ Title verified: " + driver.getTitle());
+        System.out.println("  ✓ Title verified: " + getDriver().getTitle());
     }
 
     @Test(description = "Test with Soft Assertions and Fluent Waits", priority = 2)
@@ -59,21 +59,21 @@ public class ComprehensiveFeatureTest extends BaseTest {
         // Initialize soft assertions
         AssertionUtils.initSoftAssert();
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Fluent wait for element
-        WebElement searchBox = WaitUtils.fluentWaitForElement(driver, By.name("q"), 10, 1);
+        WebElement searchBox = WaitUtils.fluentWaitForElement(getDriver(), By.name("q"), 10, 1);
         AssertionUtils.softAssertNotNull(searchBox, "Search box should be found with fluent wait");
         System.out.println("  ✓ Fluent wait executed");
         
         // Multiple soft assertions
-        AssertionUtils.softAssertTrue(driver.getTitle().contains("Google"), "Title should contain Google");
-        AssertionUtils.softAssertTrue(driver.getCurrentUrl().contains("google"), "URL should contain google");
+        AssertionUtils.softAssertTrue(getDriver().getTitle().contains("Google"), "Title should contain Google");
+        AssertionUtils.softAssertTrue(getDriver().getCurrentUrl().contains("google"), "URL should contain google");
         AssertionUtils.softAssertNotNull(searchBox.getAttribute("name"), "Search box should have name attribute");
         System.out.println("  ✓ Multiple soft assertions executed");
         
         // Take screenshot before assertAll
-        ScreenshotUtils.takeScreenshot(driver, "Test2_BeforeAssertAll");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test2_BeforeAssertAll");
         
         // Report all assertions
         AssertionUtils.assertAll();
@@ -85,13 +85,13 @@ public class ComprehensiveFeatureTest extends BaseTest {
         System.out.println("\n[Thread: " + Thread.currentThread().getName() + "] === Test 3: Implicit Waits + Element Screenshots ===");
         
         // Set implicit wait
-        WaitUtils.setImplicitWait(driver, 10);
+        WaitUtils.setImplicitWait(getDriver(), 10);
         System.out.println("  ✓ Implicit wait set");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Find elements (implicit wait applies)
-        WebElement searchBox = driver.findElement(By.name("q"));
+        WebElement searchBox = getDriver().findElement(By.name("q"));
         AssertionUtils.assertNotNull(searchBox, "Search box should be found");
         
         // Take element screenshot
@@ -103,12 +103,12 @@ public class ComprehensiveFeatureTest extends BaseTest {
         searchBox.sendKeys("WebDriver Screenshots");
         
         // Take full page screenshot
-        String fullPath = ScreenshotUtils.takeScreenshot(driver, "Test3_FullPage");
+        String fullPath = ScreenshotUtils.takeScreenshot(getDriver(), "Test3_FullPage");
         AssertionUtils.assertNotNull(fullPath, "Full page screenshot should be captured");
         System.out.println("  ✓ Full page screenshot: " + fullPath);
         
         // Remove implicit wait
-        WaitUtils.removeImplicitWait(driver);
+        WaitUtils.removeImplicitWait(getDriver());
         System.out.println("  ✓ Implicit wait removed");
     }
 
@@ -116,10 +116,10 @@ public class ComprehensiveFeatureTest extends BaseTest {
     public void testMixedAssertionsAndWaits() {
         System.out.println("\n[Thread: " + Thread.currentThread().getName() + "] === Test 4: Mixed Assertions + Multiple Waits ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Explicit wait for visible
-        WebElement searchBox = WaitUtils.waitForElementVisible(driver, By.name("q"), 10);
+        WebElement searchBox = WaitUtils.waitForElementVisible(getDriver(), By.name("q"), 10);
         AssertionUtils.assertNotNull(searchBox, "Search box should be visible");
         
         // Hard assertion for immediate validation
@@ -135,13 +135,13 @@ public class ComprehensiveFeatureTest extends BaseTest {
         AssertionUtils.softAssertTrue(searchBox.isEnabled(), "Should be enabled");
         
         // Wait for title and assert
-        boolean titleContains = WaitUtils.waitForTitleContains(driver, "Google", 5);
+        boolean titleContains = WaitUtils.waitForTitleContains(getDriver(), "Google", 5);
         AssertionUtils.softAssertTrue(titleContains, "Title should contain Google");
         
         System.out.println("  ✓ Multiple soft assertions collected");
         
         // Take screenshot before validation
-        ScreenshotUtils.takeScreenshot(driver, "Test4_BeforeValidation");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test4_BeforeValidation");
         
         // Validate all soft assertions
         AssertionUtils.assertAll();
@@ -153,12 +153,12 @@ public class ComprehensiveFeatureTest extends BaseTest {
         System.out.println("\n[Thread: " + Thread.currentThread().getName() + "] === Test 5: Numeric Assertions + Timeouts ===");
         
         // Set timeouts
-        WaitUtils.setPageLoadTimeout(driver, 30);
-        WaitUtils.setScriptTimeout(driver, 30);
+        WaitUtils.setPageLoadTimeout(getDriver(), 30);
+        WaitUtils.setScriptTimeout(getDriver(), 30);
         System.out.println("  ✓ Timeouts configured");
         
         long startTime = System.currentTimeMillis();
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         long loadTime = System.currentTimeMillis() - startTime;
         
         System.out.println("  ✓ Page loaded in: " + loadTime + "ms");
@@ -170,7 +170,7 @@ public class ComprehensiveFeatureTest extends BaseTest {
         
         // Wait for element and measure
         long waitStart = System.currentTimeMillis();
-        WebElement element = WaitUtils.waitForElementVisible(driver, By.name("q"), 10);
+        WebElement element = WaitUtils.waitForElementVisible(getDriver(), By.name("q"), 10);
         long waitTime = System.currentTimeMillis() - waitStart;
         
         AssertionUtils.assertNotNull(element, "Element should be found");
@@ -178,7 +178,7 @@ public class ComprehensiveFeatureTest extends BaseTest {
         System.out.println("  ✓ Element found in: " + waitTime + "ms");
         
         // Take final screenshot
-        ScreenshotUtils.takeScreenshot(driver, "Test5_Final");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test5_Final");
     }
 
     @Test(description = "Stress test with all features", priority = 6)
@@ -189,21 +189,21 @@ public class ComprehensiveFeatureTest extends BaseTest {
         AssertionUtils.initSoftAssert();
         
         // Set implicit wait
-        WaitUtils.setImplicitWait(driver, 5);
+        WaitUtils.setImplicitWait(getDriver(), 5);
         
         try {
-            driver.get("https://www.google.com");
+            getDriver().get("https://www.google.com");
             
             // Screenshot 1 - Home page
-            ScreenshotUtils.takeScreenshot(driver, "Test6_Step1_HomePage");
+            ScreenshotUtils.takeScreenshot(getDriver(), "Test6_Step1_HomePage");
             
             // Find and verify search box with explicit wait
-            WebElement searchBox = WaitUtils.waitForElementClickable(driver, By.name("q"), 10);
+            WebElement searchBox = WaitUtils.waitForElementClickable(getDriver(), By.name("q"), 10);
             AssertionUtils.softAssertNotNull(searchBox, "Search box should exist");
             
             // Type text and screenshot
             searchBox.sendKeys("Selenium Comprehensive Testing");
-            ScreenshotUtils.takeScreenshot(driver, "Test6_Step2_AfterTyping");
+            ScreenshotUtils.takeScreenshot(getDriver(), "Test6_Step2_AfterTyping");
             
             // Verify text was entered
             String typedText = searchBox.getAttribute("value");
@@ -213,17 +213,17 @@ public class ComprehensiveFeatureTest extends BaseTest {
             ScreenshotUtils.takeElementScreenshot(searchBox, "Test6_Step3_SearchBox");
             
             // Verify page properties
-            AssertionUtils.softAssertTrue(driver.getTitle().contains("Google"), "Title check");
-            AssertionUtils.softAssertTrue(driver.getCurrentUrl().contains("google"), "URL check");
+            AssertionUtils.softAssertTrue(getDriver().getTitle().contains("Google"), "Title check");
+            AssertionUtils.softAssertTrue(getDriver().getCurrentUrl().contains("google"), "URL check");
             
             // Final screenshot
-            ScreenshotUtils.takeScreenshot(driver, "Test6_Step4_Final");
+            ScreenshotUtils.takeScreenshot(getDriver(), "Test6_Step4_Final");
             
             System.out.println("  ✓ All operations completed successfully");
             
         } finally {
             // Remove implicit wait
-            WaitUtils.removeImplicitWait(driver);
+            WaitUtils.removeImplicitWait(getDriver());
             
             // Validate all soft assertions
             AssertionUtils.assertAll();
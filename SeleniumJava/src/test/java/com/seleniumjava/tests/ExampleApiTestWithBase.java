@@ -189,14 +189,12 @@ public class ExampleApiTestWithBase extends BaseApiTest {
         Response createResponse = apiClient.post("/posts", newPost);
         ApiAssertionUtils.assertCreated(createResponse);
         
-        // Wait before verification (if needed)
-        logStep("Waiting before verification");
-        waitFor(1000); // Wait 1 second
-        
+        // JSONPlaceholder fakes writes and never serves the new post, so there is nothing to wait for:
+        // verify the resource from the creation response
         logStep("Verifying resource");
-        int postId = createResponse.jsonPath().getInt("id");
-        Response getResponse = apiClient.get("/posts/" + postId);
-        ApiAssertionUtils.assertOk(getResponse);
+        ApiAssertionUtils.assertJsonFieldNotNull(createResponse, "id");
+        ApiAssertionUtils.assertJsonFieldValue(createResponse, "title", "Test Post");
+        ApiAssertionUtils.assertJsonFieldValue(createResponse, "body", "Test Body");
         
         logStep("Test with wait completed");
     }
@@ -3,6 +3,7 @@ package com.seleniumjava.tests;
 import com.seleniumjava.base.BaseTest;
 import com.seleniumjava.pages.BasePage;  // Replace with your page object
 import com.seleniumjava.utils.CommonUtils;
+import com.seleniumjava.utils.WaitUtils;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
@@ -27,8 +28,8 @@ public class SampleTestTemplate extends BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(SampleTestTemplate.class);
     
     // Replace this with your page object
-    @SuppressWarnings("unused")
-    private BasePage samplePage;
+    // One page object per thread so parallel="methods" runs don't share state
+    private final ThreadLocal<BasePage> samplePage = new ThreadLocal<>();
 
     /**
      * Setup method - runs before each test
@@ -42,8 +43,8 @@ public class SampleTestTemplate extends BaseTest {
         setup("chrome");
         
         // Initialize your page object
-        // Example: samplePage = new YourPageObject(driver);
-        samplePage = new BasePage(driver);
+        // Example: samplePage.set(new YourPageObject(getDriver()));
+        samplePage.set(new BasePage(getDriver()));
         
         // Navigate to application
         navigateTo("https://your-app.com");
@@ -61,6 +62,7 @@ public class SampleTestTemplate extends BaseTest {
         
         // Close WebDriver
         super.tearDown();
+        samplePage.remove();
         
         logger.info("================ Test Teardown Complete ================");
     }
@@ -81,13 +83,13 @@ public class SampleTestTemplate extends BaseTest {
         logger.info("TEST: testBasicFunctionality");
         
         // Step 1: Perform action
-        // Example: samplePage.clickButton();
+        // Example: samplePage.get().clickButton();
         
         // Step 2: Wait and verify
-        CommonUtils.waitForPageLoad(driver);
+        CommonUtils.waitForPageLoad(getDriver());
         
         // Step 3: Assert expected result
-        // Example: Assert.assertTrue(samplePage.isMessageDisplayed());
+        // Example: Assert.assertTrue(samplePage.get().isMessageDisplayed());
         
         logger.info("TEST PASSED: Functionality working as expected");
     }
@@ -103,7 +105,7 @@ public class SampleTestTemplate extends BaseTest {
         logger.info("Parameter 1: " + param1 + ", Parameter 2: " + param2);
         
         // Use parameters in test
-        // Example: samplePage.enterData(param1);
+        // Example: samplePage.get().enterData(param1);
         
         logger.info("TEST PASSED");
     }
@@ -178,7 +180,8 @@ public class SampleTestTemplate extends BaseTest {
      */
     @SuppressWarnings("unused")
     private void waitForCondition() {
-        CommonUtils.threadWait(2000);  // Wait 2 seconds
+        // Wait for the page's background requests instead of a fixed sleep
+        WaitUtils.waitForNetworkIdle(getDriver(), 500, 10);
     }
 
     /**
@@ -26,19 +26,19 @@ public class ScreenshotDemoTest extends BaseTest {
     public void testManualScreenshot() {
         System.out.println("\n=== Manual Screenshot Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Take screenshot manually
-        String screenshotPath = ScreenshotUtils.takeScreenshot(driver, "GoogleHomePage");
+        String screenshotPath = ScreenshotUtils.takeScreenshot(getDriver(), "GoogleHomePage");
         Assert.assertNotNull(screenshotPath, "Screenshot should be captured");
         System.out.println("✓ Screenshot saved at: " + screenshotPath);
         
         // Search for something
-        WebElement searchBox = driver.findElement(By.name("q"));
+        WebElement searchBox = getDriver().findElement(By.name("q"));
         searchBox.sendKeys("Selenium WebDriver");
         
         // Take another screenshot
-        String searchScreenshot = ScreenshotUtils.takeScreenshot(driver, "AfterTypingSearch");
+        String searchScreenshot = ScreenshotUtils.takeScreenshot(getDriver(), "AfterTypingSearch");
         Assert.assertNotNull(searchScreenshot, "Search screenshot should be captured");
         System.out.println("✓ Search screenshot saved at: " + searchScreenshot);
     }
@@ -47,10 +47,10 @@ public class ScreenshotDemoTest extends BaseTest {
     public void testElementScreenshot() {
         System.out.println("\n=== Element Screenshot Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Find search box element
-        WebElement searchBox = driver.findElement(By.name("q"));
+        WebElement searchBox = getDriver().findElement(By.name("q"));
         Assert.assertNotNull(searchBox, "Search box should be found");
         
         // Take screenshot of specific element only
@@ -63,11 +63,11 @@ public class ScreenshotDemoTest extends BaseTest {
     public void testCustomDirectoryScreenshot() {
         System.out.println("\n=== Custom Directory Screenshot Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Take screenshot in custom directory
         String customDir = "target/screenshots/custom";
-        String screenshotPath = ScreenshotUtils.takeScreenshot(driver, "CustomLocation", customDir);
+        String screenshotPath = ScreenshotUtils.takeScreenshot(getDriver(), "CustomLocation", customDir);
         Assert.assertNotNull(screenshotPath, "Screenshot should be saved in custom directory");
         System.out.println("✓ Screenshot saved in custom directory: " + screenshotPath);
     }
@@ -76,16 +76,16 @@ public class ScreenshotDemoTest extends BaseTest {
     public void testScreenshotFormats() {
         System.out.println("\n=== Screenshot Formats Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Get screenshot as bytes (for TestNG reports)
-        byte[] screenshotBytes = ScreenshotUtils.takeScreenshotAsBytes(driver);
+        byte[] screenshotBytes = ScreenshotUtils.takeScreenshotAsBytes(getDriver());
         Assert.assertNotNull(screenshotBytes, "Screenshot bytes should not be null");
         Assert.assertTrue(screenshotBytes.length > 0, "Screenshot bytes should have content");
         System.out.println("✓ Screenshot captured as bytes: " + screenshotBytes.length + " bytes");
         
         // Get screenshot as Base64 string (for HTML reports)
-        String base64Screenshot = ScreenshotUtils.takeScreenshotAsBase64(driver);
+        String base64Screenshot = ScreenshotUtils.takeScreenshotAsBase64(getDriver());
         Assert.assertNotNull(base64Screenshot, "Base64 screenshot should not be null");
         Assert.assertTrue(base64Screenshot.length() > 0, "Base64 screenshot should have content");
         System.out.println("✓ Screenshot captured as Base64: " + base64Screenshot.length() + " characters");
@@ -105,9 +105,9 @@ public class ScreenshotDemoTest extends BaseTest {
         System.out.println("✓ Screenshots in directory: " + count);
         
         // Take some screenshots
-        driver.get("https://www.google.com");
-        ScreenshotUtils.takeScreenshot(driver, "Test1");
-        ScreenshotUtils.takeScreenshot(driver, "Test2");
+        getDriver().get("https://www.google.com");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test1");
+        ScreenshotUtils.takeScreenshot(getDriver(), "Test2");
         
         int newCount = ScreenshotUtils.getScreenshotCount();
         Assert.assertTrue(newCount >= count + 2, "Screenshot count should increase");
@@ -120,7 +120,7 @@ public class ScreenshotDemoTest extends BaseTest {
         System.out.println("This test is disabled by default - enables it to see auto screenshot");
         System.out.println("When enabled, TestListener will automatically capture screenshot on failure");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // This will fail intentionally
         Assert.fail("Intentional failure to trigger automatic screenshot");
@@ -24,18 +24,18 @@ public class WaitsDemoTest extends BaseTest {
         System.out.println("\n=== Implicit Wait Test ===");
         
         // Set implicit wait - applies to all findElement calls
-        WaitUtils.setImplicitWait(driver, 10);
+        WaitUtils.setImplicitWait(getDriver(), 10);
         System.out.println("✓ Implicit wait set to 10 seconds");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // This will wait up to 10 seconds if element is not immediately found
-        WebElement searchBox = driver.findElement(By.name("q"));
+        WebElement searchBox = getDriver().findElement(By.name("q"));
         Assert.assertNotNull(searchBox, "Search box should be found");
         System.out.println("✓ Element found with implicit wait");
         
         // Remove implicit wait
-        WaitUtils.removeImplicitWait(driver);
+        WaitUtils.removeImplicitWait(getDriver());
         System.out.println("✓ Implicit wait removed");
     }
 
@@ -43,15 +43,15 @@ public class WaitsDemoTest extends BaseTest {
     public void testExplicitWaits() {
         System.out.println("\n=== Explicit Wait Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Wait for element to be visible
-        WebElement searchBox = WaitUtils.waitForElementVisible(driver, By.name("q"), 10);
+        WebElement searchBox = WaitUtils.waitForElementVisible(getDriver(), By.name("q"), 10);
         Assert.assertNotNull(searchBox, "Search box should be visible");
         System.out.println("✓ Element visible - explicit wait");
         
         // Wait for element to be clickable
-        WebElement clickableSearchBox = WaitUtils.waitForElementClickable(driver, By.name("q"), 10);
+        WebElement clickableSearchBox = WaitUtils.waitForElementClickable(getDriver(), By.name("q"), 10);
         Assert.assertNotNull(clickableSearchBox, "Search box should be clickable");
         System.out.println("✓ Element clickable - explicit wait");
         
@@ -59,7 +59,7 @@ public class WaitsDemoTest extends BaseTest {
         searchBox.sendKeys("Selenium WebDriver");
         
         // Wait for search button to be present
-        WebElement searchButton = WaitUtils.waitForElementPresent(driver, By.name("btnK"), 10);
+        WebElement searchButton = WaitUtils.waitForElementPresent(getDriver(), By.name("btnK"), 10);
         Assert.assertNotNull(searchButton, "Search button should be present");
         System.out.println("✓ Element present - explicit wait");
     }
@@ -68,28 +68,28 @@ public class WaitsDemoTest extends BaseTest {
     public void testTitleAndUrlWaits() {
         System.out.println("\n=== Title and URL Wait Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Wait for title to contain specific text
-        boolean titleContains = WaitUtils.waitForTitleContains(driver, "Google", 10);
+        boolean titleContains = WaitUtils.waitForTitleContains(getDriver(), "Google", 10);
         Assert.assertTrue(titleContains, "Title should contain 'Google'");
-        System.out.println("✓ Title contains expected text: " + driver.getTitle());
+        System.out.println("✓ Title contains expected text: " + getDriver().getTitle());
         
         // Wait for URL to contain specific text
-        boolean urlContains = WaitUtils.waitForUrlContains(driver, "google", 10);
+        boolean urlContains = WaitUtils.waitForUrlContains(getDriver(), "google", 10);
         Assert.assertTrue(urlContains, "URL should contain 'google'");
-        System.out.println("✓ URL contains expected text: " + driver.getCurrentUrl());
+        System.out.println("✓ URL contains expected text: " + getDriver().getCurrentUrl());
     }
 
     @Test(description = "Demonstrate Fluent Wait")
     public void testFluentWait() {
         System.out.println("\n=== Fluent Wait Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Fluent wait with 10 second timeout and 1 second polling
         WebElement searchBox = WaitUtils.fluentWaitForElement(
-            driver, 
+            getDriver(), 
             By.name("q"), 
             10,  // timeout
             1    // polling interval
@@ -100,7 +100,7 @@ public class WaitsDemoTest extends BaseTest {
         
         // Wait for element to be clickable with fluent wait
         WebElement clickableElement = WaitUtils.fluentWaitForClickable(
-            driver, 
+            getDriver(), 
             By.name("q"), 
             10, 
             1
@@ -114,11 +114,11 @@ public class WaitsDemoTest extends BaseTest {
     public void testTextPresenceWait() {
         System.out.println("\n=== Text Presence Wait Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Wait for specific text to be present in element
         By searchBoxLocator = By.name("q");
-        WebElement element = WaitUtils.waitForElementVisible(driver, searchBoxLocator, 10);
+        WebElement element = WaitUtils.waitForElementVisible(getDriver(), searchBoxLocator, 10);
         
         // Type text
         element.sendKeys("Selenium");
@@ -133,10 +133,10 @@ public class WaitsDemoTest extends BaseTest {
     public void testWaitForInvisibility() {
         System.out.println("\n=== Wait for Invisibility Test ===");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         
         // Wait for element to be visible first
-        WebElement searchBox = WaitUtils.waitForElementVisible(driver, By.name("q"), 10);
+        WebElement searchBox = WaitUtils.waitForElementVisible(getDriver(), By.name("q"), 10);
         Assert.assertNotNull(searchBox, "Search box should be visible");
         System.out.println("✓ Element is visible");
         
@@ -150,14 +150,14 @@ public class WaitsDemoTest extends BaseTest {
         System.out.println("\n=== Timeouts Test ===");
         
         // Set page load timeout
-        WaitUtils.setPageLoadTimeout(driver, 30);
+        WaitUtils.setPageLoadTimeout(getDriver(), 30);
         System.out.println("✓ Page load timeout set to 30 seconds");
         
         // Set script timeout (for async JavaScript execution)
-        WaitUtils.setScriptTimeout(driver, 30);
+        WaitUtils.setScriptTimeout(getDriver(), 30);
         System.out.println("✓ Script timeout set to 30 seconds");
         
-        driver.get("https://www.google.com");
+        getDriver().get("https://www.google.com");
         System.out.println("✓ Page loaded within timeout");
     }
 
@@ -0,0 +1,111 @@
+package com.seleniumjava.utils;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for LocatorTemplate: slot parsing and the quoting/escaping of values in quoted slots
+ * No browser needed.
+ *
+ * Run: mvn test -Dtest=LocatorTemplateTest
+ */
+public class LocatorTemplateTest {
+
+    @DataProvider
+    public Object[][] xpathLiterals() {
+        return new Object[][]{
+                {"Edit", '\'', "'Edit'"},
+                {"Edit", '"', "\"Edit\""},
+                {"O'Brien", '\'', "\"O'Brien\""},
+                {"say \"hi\"", '"', "'say \"hi\"'"},
+                {"it's \"x\"", '\'', "concat('it', \"'\", 's \"x\"')"},
+                {"", '\'', "''"},
+        };
+    }
+
+    @Test(dataProvider = "xpathLiterals")
+    public void testXPathLiteral(String value, char preferred, String literal) {
+        StringBuilder target = new StringBuilder();
+        LocatorTemplate.appendXPathLiteral(target, value, preferred);
+        assertEquals(target.toString(), literal);
+    }
+
+    @DataProvider
+    public Object[][] cssStrings() {
+        return new Object[][]{
+                {"plain", '\'', "'plain'"},
+                {"a'b", '\'', "'a\\'b'"},
+                {"a'b", '"', "\"a'b\""},
+                {"say \"hi\"", '"', "\"say \\\"hi\\\"\""},
+                {"C:\\dir", '"', "\"C:\\\\dir\""},
+        };
+    }
+
+    @Test(dataProvider = "cssStrings")
+    public void testCssString(String value, char quote, String string) {
+        StringBuilder target = new StringBuilder();
+        LocatorTemplate.appendCssString(target, value, quote);
+        assertEquals(target.toString(), string);
+    }
+
+    @DataProvider
+    public Object[][] xpathTemplates() {
+        return new Object[][]{
+                // Quoted slots take the quotes over
+                {"//tr[td[1]='{0}']//button[text()='{1}']", new String[]{"O'Brien", "Edit"},
+                        "//tr[td[1]=\"O'Brien\"]//button[text()='Edit']"},
+                {"//a[@title=\"{0}\"]", new String[]{"x"}, "//a[@title=\"x\"]"},
+                // Slots that only share a string with other text are inserted as they are
+                {"//a[text()='Page {0}']", new String[]{"2"}, "//a[text()='Page 2']"},
+                {"//a[@id='{0}\"]", new String[]{"x"}, "//a[@id='x\"]"},
+                {"(//button)[{0}]", new String[]{"3"}, "(//button)[3]"},
+                // Repeated and out-of-order slots
+                {"//*[@a='{1}' or @b='{0}' or @c='{1}']", new String[]{"p", "q"},
+                        "//*[@a='q' or @b='p' or @c='q']"},
+                // Braces that are no slot stay literal
+                {"//a[text()='{}'][@x='{a}']{0}", new String[]{"/b"}, "//a[text()='{}'][@x='{a}']/b"},
+        };
+    }
+
+    @Test(dataProvider = "xpathTemplates")
+    public void testXPathFormat(String template, String[] values, String xpath) {
+        assertEquals(LocatorTemplate.xpath(template).format(values), xpath);
+    }
+
+    @Test
+    public void testCssFormat() {
+        LocatorTemplate template = LocatorTemplate.css("input[name='{0}'][value=\"{1}\"]");
+        assertEquals(template.format("q", "say \"hi\""), "input[name='q'][value=\"say \\\"hi\\\"\"]");
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(LocatorTemplate.xpath("//div").getArity(), 0);
+        assertEquals(LocatorTemplate.xpath("//div[{2}]").getArity(), 3);
+        assertEquals(LocatorTemplate.css("#{0} .{0}").getArity(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMissingValue() {
+        LocatorTemplate.xpath("//a[@x='{0}'][@y='{1}']").by("only one");
+    }
+
+    @Test
+    public void testByIsCached() {
+        LocatorTemplate template = LocatorTemplate.css("#{0} > .{1}");
+        By first = template.by("main", "item");
+        assertEquals(first, By.cssSelector("#main > .item"));
+        assertSame(template.by("main", "item"), first);
+        assertEquals(template.getMisses(), 1);
+        assertEquals(template.getHits(), 1);
+    }
+
+    @Test
+    public void testDynamicLocatorKeepsMissingPlaceholders() {
+        assertEquals(DynamicLocatorUtils.getDynamicXPath("//a[@x='{0}'][@y='{1}']", "v"),
+                "//a[@x='v'][@y='{1}']");
+    }
+}
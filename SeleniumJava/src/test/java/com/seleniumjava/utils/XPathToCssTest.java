@@ -0,0 +1,79 @@
+package com.seleniumjava.utils;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for XPathToCss: its exact translations are substituted into live lookups by LocatorProfiler
+ * No browser needed.
+ *
+ * Run: mvn test -Dtest=XPathToCssTest
+ */
+public class XPathToCssTest {
+
+    @DataProvider
+    public Object[][] exactTranslations() {
+        return new Object[][]{
+                {"//div", "div"},
+                {"//*[@id='main']", "#main"},
+                {"//input[@id='first name']", "input[id=\"first name\"]"},
+                {"//div[@class='g']", "div[class=\"g\"]"},
+                {"//input[@name='q']", "input[name=\"q\"]"},
+                {"//a[@href]", "a[href]"},
+                {"//div[contains(@class, 'btn')]", "div[class*=\"btn\"]"},
+                {"//a[starts-with(@href, \"https\")]", "a[href^=\"https\"]"},
+                {"//a[contains(@title, '')]", "a"},
+                {"//*[starts-with(@href, \"\")]", "*"},
+                {"//a[contains(@title, '') and @href]", "a[href]"},
+                {"//input[@type='text' and @name='q']", "input[type=\"text\"][name=\"q\"]"},
+                {"//table[@id='data-table']//tr", "table#data-table tr"},
+                {"//ul/li", "ul > li"},
+                {"//ul/li[2]", "ul > li:nth-of-type(2)"},
+                {"//ul/*[3]", "ul > :nth-child(3)"},
+                {"//div/*", "div > *"},
+                {"  //span  ", "span"},
+                {"//input[@value='say \"hi\"']", "input[value=\"say \\\"hi\\\"\"]"},
+        };
+    }
+
+    @Test(dataProvider = "exactTranslations")
+    public void testExactTranslation(String xpath, String css) {
+        assertEquals(XPathToCss.translate(xpath, false), css);
+    }
+
+    @Test
+    public void testClassShorthand() {
+        assertEquals(XPathToCss.translate("//div[@class='g']", true), "div.g");
+        assertEquals(XPathToCss.translate("//div[@class='g']", false), "div[class=\"g\"]");
+        // Class values that are no identifier keep the attribute selector
+        assertEquals(XPathToCss.translate("//div[@class='a b']", true), "div[class=\"a b\"]");
+        // Without class equality both translations are the same
+        assertEquals(XPathToCss.translate("//*[@id='main']//a", true), "#main a");
+    }
+
+    @DataProvider
+    public Object[][] untranslatable() {
+        return new Object[][]{
+                {"//button[text()='Upload']"},
+                {"//a[contains(text(), 'Click')]"},
+                {"(//a)[1]"},
+                {"/html/body/div"},
+                {"//li[last()]"},
+                {"//div/following-sibling::div"},
+                {"//div/.."},
+                {"//div/@class"},
+                {"//a | //button"},
+                {"//li[@class='x'][2]"},
+                {"//li[2][@class='x']"},
+                {"//div[@id='unclosed'"},
+        };
+    }
+
+    @Test(dataProvider = "untranslatable")
+    public void testUntranslatable(String xpath) {
+        assertNull(XPathToCss.translate(xpath, false));
+        assertNull(XPathToCss.translate(xpath, true));
+    }
+}